@@ -0,0 +1,75 @@
+#!/usr/bin/env bash
+# Acceptance check for admission control: POST /api/bills latency must stay flat while
+# GET /api/customers is hammered by other users.
+#   scripts/admission-load-check.sh
+# Needs a running app (any profile) with an ADMIN account for billing, CASHIER accounts for
+# the hammer, and a customer plus an item with enough stock for SAMPLES * 2 bills.
+#   BASE                  http://localhost:8080
+#   BILL_USER/BILL_PASS   admin that creates the bills
+#   HAMMER_USERS          "user:pass ..." cashiers that flood the customer list; a single user
+#                         mostly meets its own bucket (429), several reach the in-flight cap (503)
+#   CUSTOMER_ID, ITEM_ID  bill target
+#   SAMPLES=50 HAMMERS=32 MAX_P95_RATIO=2
+# Exits non-zero if p95 under load exceeds MAX_P95_RATIO times the idle p95.
+set -euo pipefail
+
+BASE=${BASE:-http://localhost:8080}
+SAMPLES=${SAMPLES:-50}
+HAMMERS=${HAMMERS:-32}
+MAX_P95_RATIO=${MAX_P95_RATIO:-2}
+: "${BILL_USER:?}" "${BILL_PASS:?}" "${HAMMER_USERS:?}" "${CUSTOMER_ID:?}" "${ITEM_ID:?}"
+
+WORK=$(mktemp -d)
+trap 'touch "$WORK/stop"; wait 2>/dev/null; rm -rf "$WORK"' EXIT
+
+token() {
+  curl -sf -H 'Content-Type: application/json' -d "{\"username\":\"$1\",\"password\":\"$2\"}" \
+    "$BASE/api/auth/login" | sed -E 's/.*"token":"([^"]+)".*/\1/'
+}
+BILL_TOKEN=$(token "$BILL_USER" "$BILL_PASS")
+HAMMER_TOKENS=()
+for up in $HAMMER_USERS; do HAMMER_TOKENS+=("$(token "${up%%:*}" "${up#*:}")"); done
+
+# one line per bill: seconds; any non-200 fails the run
+bills() {
+  local phase=$1 out=$WORK/$1.times
+  for i in $(seq "$SAMPLES"); do
+    local r
+    r=$(curl -s -o /dev/null -w '%{http_code} %{time_total}' -H "Authorization: Bearer $BILL_TOKEN" \
+      -H 'Content-Type: application/json' \
+      -d "{\"customerId\":$CUSTOMER_ID,\"billNumber\":\"LC-$$-$phase-$i\",\"items\":[{\"itemId\":$ITEM_ID,\"quantity\":1}]}" \
+      "$BASE/api/bills")
+    [ "${r%% *}" = 200 ] || { echo "POST /api/bills returned ${r%% *} during $phase" >&2; exit 1; }
+    echo "${r#* }" >> "$out"
+  done
+}
+
+# prints "p50 p95 max" in ms
+stats() {
+  sort -n "$1" | awk '{ v[NR] = $1 * 1000 } END {
+    p50 = v[int((NR - 1) * 0.50) + 1]; p95 = v[int((NR - 1) * 0.95) + 1];
+    printf "%.1f %.1f %.1f\n", p50, p95, v[NR] }'
+}
+
+bills idle
+read -r IDLE_P50 IDLE_P95 IDLE_MAX < <(stats "$WORK/idle.times")
+
+for w in $(seq "$HAMMERS"); do
+  HAMMER_TOKEN=${HAMMER_TOKENS[$(( w % ${#HAMMER_TOKENS[@]} ))]}
+  ( while [ ! -f "$WORK/stop" ]; do
+      curl -s -o /dev/null -w '%{http_code}\n' -H "Authorization: Bearer $HAMMER_TOKEN" "$BASE/api/customers"
+    done > "$WORK/hammer.$w" ) &
+done
+sleep 2
+bills loaded
+touch "$WORK/stop"
+wait
+read -r LOAD_P50 LOAD_P95 LOAD_MAX < <(stats "$WORK/loaded.times")
+
+printf 'POST /api/bills  idle:   p50 %6s ms  p95 %6s ms  max %6s ms\n' "$IDLE_P50" "$IDLE_P95" "$IDLE_MAX"
+printf 'POST /api/bills  loaded: p50 %6s ms  p95 %6s ms  max %6s ms\n' "$LOAD_P50" "$LOAD_P95" "$LOAD_MAX"
+printf 'GET /api/customers by %d hammers (%d users):' "$HAMMERS" "${#HAMMER_TOKENS[@]}"
+cat "$WORK"/hammer.* | sort | uniq -c | awk '{ printf " %s x%s", $2, $1 } END { print "" }'
+
+awk -v l="$LOAD_P95" -v i="$IDLE_P95" -v r="$MAX_P95_RATIO" \
+  'BEGIN { if (l > i * r && l - i > 5) { print "FAIL: p95 grew more than " r "x under load"; exit 1 } print "OK" }'
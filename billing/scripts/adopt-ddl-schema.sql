@@ -0,0 +1,24 @@
+-- Cut-over for a database that ran the default profile while it still used ddl-auto=update:
+-- its tables and columns exist but the indexes and keys of the migrations do not, and there is
+-- no flyway_schema_history. The application refuses to baseline such a database at V1 and
+-- names the highest migration whose objects it found (V3, V4 or V5).
+--
+--   1. Run the sections below up to and including that version (mysql pahana_billing < ...).
+--   2. Start once with --spring.flyway.baseline-version=<that version>; later migrations apply.
+--   3. POST /api/customers/ledger/verify?repair=true to rebuild ledger rows from the bills.
+
+-- V2
+CREATE INDEX idx_bills_customer_status ON bills (customer_id, payment_status);
+CREATE INDEX idx_bills_bill_date ON bills (bill_date);
+CREATE INDEX idx_items_category ON items (category);
+
+-- V3
+CREATE INDEX idx_customers_deleted ON customers (deleted, deleted_at);
+CREATE INDEX idx_items_deleted ON items (deleted, deleted_at);
+
+-- V4
+ALTER TABLE customer_ledgers
+  ADD CONSTRAINT fk_customer_ledgers_customer FOREIGN KEY (customer_id) REFERENCES customers (customer_id);
+CREATE INDEX idx_customer_ledgers_outstanding ON customer_ledgers (outstanding_balance);
+
+-- V5: tax_rules has no indexes beyond its primary key; nothing to add.
@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# Reports time-to-first-request (launch until /api/health answers 200) for both launch modes.
+#   scripts/startup-time.sh [runs]
+# Expects target/fast-start to exist (scripts/fast-start.sh build) and the database to be up.
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+URL=http://localhost:8080/api/health
+JAR=target/pahana-edu-billing-0.0.1-SNAPSHOT.jar
+FAST=target/fast-start
+
+measure() {
+  local label=$1; shift
+  local total=0
+  for i in $(seq "$RUNS"); do
+    local start end pid
+    start=$(date +%s%N)
+    "$@" >/dev/null 2>&1 & pid=$!
+    until curl -sf -o /dev/null "$URL"; do sleep 0.02; done
+    end=$(date +%s%N)
+    kill "$pid"; wait "$pid" 2>/dev/null || true
+    total=$(( total + (end - start) / 1000000 ))
+  done
+  printf '%-10s %6d ms (mean of %d)\n' "$label" $(( total / RUNS )) "$RUNS"
+}
+
+[ -f "$JAR" ] || ./mvnw -B -q -DskipTests package
+measure default java -jar "$JAR"
+measure prod    java -jar "$JAR" --spring.profiles.active=prod
+measure aot+cds java -XX:SharedArchiveFile="$FAST/app.jsa" -Dspring.aot.enabled=true \
+                     -jar "$FAST/$(basename "$JAR")" --spring.profiles.active=prod
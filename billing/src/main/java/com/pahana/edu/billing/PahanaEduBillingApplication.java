@@ -7,9 +7,10 @@ import com.pahana.edu.billing.repository.UserRepository;
 import org.springframework.boot.*;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-@SpringBootApplication
+@SpringBootApplication @EnableScheduling
 public class PahanaEduBillingApplication {
   public static void main(String[] args){ SpringApplication.run(PahanaEduBillingApplication.class, args); }
 
@@ -0,0 +1,28 @@
+// api/AuditController.java
+package com.pahana.edu.billing.api;
+
+import com.pahana.edu.billing.audit.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+@RestController @RequestMapping("/api/audit") @RequiredArgsConstructor
+public class AuditController {
+  private final AuditProperties props;
+
+  @GetMapping
+  public ResponseEntity<List<AuditRecord>> find(@RequestParam(required=false) AuditEventType type,
+                                                @RequestParam(required=false) Long entityId,
+                                                @RequestParam(required=false) String actor,
+                                                @RequestParam(required=false) @DateTimeFormat(iso=DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                @RequestParam(required=false) @DateTimeFormat(iso=DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                                @RequestParam(defaultValue="500") int limit) throws IOException {
+    var q = new AuditLogReader.Query(type, entityId, actor, from, to, Math.max(1, Math.min(limit, 10_000)));
+    return ResponseEntity.ok(new AuditLogReader(Path.of(props.directory())).find(q));
+  }
+}
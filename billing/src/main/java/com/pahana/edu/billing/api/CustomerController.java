@@ -2,6 +2,7 @@
 package com.pahana.edu.billing.api;
 
 import com.pahana.edu.billing.domain.dto.customer.*;
+import com.pahana.edu.billing.domain.dto.ledger.LedgerCheckResponse;
 import com.pahana.edu.billing.service.interfaces.CustomerService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,4 +19,14 @@ public class CustomerController {
   @GetMapping public ResponseEntity<List<CustomerResponse>> list(){ return ResponseEntity.ok(service.list()); }
   @PutMapping("/{id}") public ResponseEntity<CustomerResponse> update(@PathVariable Long id,@Valid @RequestBody CustomerCreateRequest r){ return ResponseEntity.ok(service.update(id,r)); }
   @DeleteMapping("/{id}") public ResponseEntity<Void> delete(@PathVariable Long id){ service.delete(id); return ResponseEntity.noContent().build(); }
+
+  @GetMapping("/top-debtors")
+  public ResponseEntity<List<CustomerResponse>> topDebtors(@RequestParam(defaultValue="outstandingBalance") String sortBy,
+                                                           @RequestParam(defaultValue="20") int limit){
+    return ResponseEntity.ok(service.topDebtors(sortBy, limit));
+  }
+  @PostMapping("/ledger/verify")
+  public ResponseEntity<LedgerCheckResponse> verifyLedger(@RequestParam(defaultValue="false") boolean repair){
+    return ResponseEntity.ok(service.verifyLedger(repair));
+  }
 }
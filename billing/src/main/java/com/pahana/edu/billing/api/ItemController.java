@@ -3,10 +3,17 @@ package com.pahana.edu.billing.api;
 
 import com.pahana.edu.billing.domain.dto.item.*;
 import com.pahana.edu.billing.service.interfaces.ItemService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController @RequestMapping("/api/items") @RequiredArgsConstructor
@@ -18,4 +25,24 @@ public class ItemController {
   @GetMapping public ResponseEntity<List<ItemResponse>> list(){ return ResponseEntity.ok(service.list()); }
   @PutMapping("/{id}") public ResponseEntity<ItemResponse> update(@PathVariable Long id, @RequestBody ItemUpdateRequest r){ return ResponseEntity.ok(service.update(id,r)); }
   @DeleteMapping("/{id}") public ResponseEntity<Void> delete(@PathVariable Long id){ service.delete(id); return ResponseEntity.noContent().build(); }
+
+  @PostMapping(path="/bulk", consumes=MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<ItemBulkUpdateResponse> bulk(@Valid @RequestBody ItemBulkUpdateRequest r){
+    return ResponseEntity.ok(service.bulkUpdate(r.rows()));
+  }
+  /** CSV upload: {@code itemId,stockIncrement,newPrice} per line, header optional, empty cells allowed. */
+  @PostMapping(path="/bulk", consumes=MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<ItemBulkUpdateResponse> bulkCsv(@RequestParam("file") MultipartFile file) throws IOException {
+    try(var in = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)){
+      return ResponseEntity.ok(service.bulkUpdateCsv(in));
+    }
+  }
+  @PostMapping(path="/bulk", consumes="text/csv")
+  public ResponseEntity<ItemBulkUpdateResponse> bulkCsvBody(HttpServletRequest req) throws IOException {
+    // UTF-8 unless the client says otherwise; the servlet default (ISO-8859-1) would mangle a BOM
+    var cs = req.getCharacterEncoding() != null ? Charset.forName(req.getCharacterEncoding()) : StandardCharsets.UTF_8;
+    try(var in = new InputStreamReader(req.getInputStream(), cs)){
+      return ResponseEntity.ok(service.bulkUpdateCsv(in));
+    }
+  }
 }
@@ -0,0 +1,64 @@
+// api/ReceiptController.java
+package com.pahana.edu.billing.api;
+
+import com.pahana.edu.billing.receipt.*;
+import com.pahana.edu.billing.service.interfaces.BillingService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+@RestController @RequestMapping("/api/bills") @RequiredArgsConstructor
+public class ReceiptController {
+  private final BillingService billing;
+  private final ReceiptRenderer receipts;
+
+  @GetMapping("/{id}/receipt")
+  public void receipt(@PathVariable Long id, @RequestParam(defaultValue="TEXT") ReceiptFormat format,
+                      ServletWebRequest req, HttpServletResponse res) throws IOException {
+    var hit = receipts.cached(id, format);
+    if(hit == null){
+      var bill = billing.get(id);
+      if(!ReceiptRenderer.isImmutable(bill)){
+        res.setContentType(format.contentType());
+        res.setHeader("Cache-Control", "no-store");
+        var w = res.getWriter();
+        w.write(format.prefix());
+        receipts.render(bill, format, w);
+        w.write(format.suffix());
+        return;
+      }
+      hit = receipts.renderBytes(bill, format);
+    }
+    if(req.checkNotModified(hit.etag())) return;
+    byte[] prefix = format.prefix().getBytes(StandardCharsets.UTF_8);
+    byte[] suffix = format.suffix().getBytes(StandardCharsets.UTF_8);
+    res.setContentType(format.contentType());
+    res.setContentLength(prefix.length + hit.body().length + suffix.length);
+    var out = res.getOutputStream();
+    out.write(prefix);
+    out.write(hit.body());
+    out.write(suffix);
+  }
+
+  /** End-of-day print run: every bill of {@code date}, rendered in parallel, written in bill order. */
+  @GetMapping("/receipts")
+  public void receiptsForDay(@RequestParam @DateTimeFormat(iso=DateTimeFormat.ISO.DATE) LocalDate date,
+                             @RequestParam(defaultValue="TEXT") ReceiptFormat format,
+                             HttpServletResponse res) throws IOException {
+    var rendered = receipts.renderBatch(billing.listByDate(date), format);
+    res.setContentType(format.contentType());
+    var out = res.getOutputStream();
+    byte[] sep = format.separator().getBytes(StandardCharsets.UTF_8);
+    out.write(format.prefix().getBytes(StandardCharsets.UTF_8));
+    for(int i = 0; i < rendered.size(); i++){
+      if(i > 0) out.write(sep);
+      out.write(rendered.get(i).body());
+    }
+    out.write(format.suffix().getBytes(StandardCharsets.UTF_8));
+  }
+}
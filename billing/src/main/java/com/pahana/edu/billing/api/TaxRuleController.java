@@ -0,0 +1,21 @@
+// api/TaxRuleController.java
+package com.pahana.edu.billing.api;
+
+import com.pahana.edu.billing.domain.dto.tax.*;
+import com.pahana.edu.billing.service.interfaces.TaxRuleService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController @RequestMapping("/api/tax/rules") @RequiredArgsConstructor
+public class TaxRuleController {
+  private final TaxRuleService service;
+
+  @PostMapping public ResponseEntity<TaxRuleResponse> create(@Valid @RequestBody TaxRuleRequest r){ return ResponseEntity.ok(service.create(r)); }
+  @GetMapping public ResponseEntity<List<TaxRuleResponse>> list(){ return ResponseEntity.ok(service.list()); }
+  @DeleteMapping("/{id}") public ResponseEntity<Void> delete(@PathVariable Long id){ service.delete(id); return ResponseEntity.noContent().build(); }
+  /** Recompiles the lookup table, e.g. after rules were edited directly in the database. */
+  @PostMapping("/reload") public ResponseEntity<Void> reload(){ service.reload(); return ResponseEntity.noContent().build(); }
+}
@@ -0,0 +1,10 @@
+// audit/AuditEventType.java
+package com.pahana.edu.billing.audit;
+
+/** Ordinals are written to the audit files; only ever append new constants. */
+public enum AuditEventType {
+  LOGIN_SUCCESS, LOGIN_FAILURE,
+  BILL_CREATED, BILL_PAID,
+  ITEM_PRICE_CHANGED,
+  CUSTOMER_CREATED, CUSTOMER_UPDATED, CUSTOMER_DELETED
+}
@@ -0,0 +1,64 @@
+// audit/AuditFileFormat.java
+package com.pahana.edu.billing.audit;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Fixed 80-byte little-endian record layout shared by {@link AuditLog} and {@link AuditLogReader}:
+ * <pre>
+ *  0 sequence   long      24 entityId  long
+ *  8 epochMs    long      32 value     double
+ * 16 type       short     40 previous  double
+ * 18 actorLen   short     48 actor     32 bytes UTF-8, zero padded
+ * 20 reserved   int
+ * </pre>
+ */
+final class AuditFileFormat {
+  static final int RECORD_SIZE = 80;
+  static final int ACTOR_BYTES = 32;
+  static final String PREFIX = "audit-";
+  static final String SUFFIX = ".log";
+
+  private AuditFileFormat(){}
+
+  /** Opening time first so names sort chronologically across restarts (sequences restart at 0). */
+  static String fileName(long openedEpochMs, long firstSequence){
+    return String.format("%s%013d-%012d%s", PREFIX, openedEpochMs, firstSequence, SUFFIX);
+  }
+
+  static boolean isAuditFile(String name){
+    return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+  }
+
+  static long openedEpochMs(String name){
+    return Long.parseLong(name.substring(PREFIX.length(), PREFIX.length() + 13));
+  }
+
+  static void write(ByteBuffer buf, long sequence, long epochMs, AuditEventType type, String actor,
+                    long entityId, double value, double previous){
+    byte[] a = actor == null ? new byte[0] : actor.getBytes(StandardCharsets.UTF_8);
+    int len = Math.min(a.length, ACTOR_BYTES);
+    buf.putLong(sequence).putLong(epochMs)
+       .putShort((short) type.ordinal()).putShort((short) len).putInt(0)
+       .putLong(entityId).putDouble(value).putDouble(previous)
+       .put(a, 0, len);
+    for(int i = len; i < ACTOR_BYTES; i++) buf.put((byte) 0);
+  }
+
+  static AuditRecord read(ByteBuffer buf){
+    long seq = buf.getLong();
+    long ts = buf.getLong();
+    AuditEventType type = AuditEventType.values()[buf.getShort()];
+    int len = buf.getShort();
+    buf.getInt();
+    long entityId = buf.getLong();
+    double value = buf.getDouble();
+    double previous = buf.getDouble();
+    byte[] a = new byte[ACTOR_BYTES];
+    buf.get(a);
+    return new AuditRecord(seq, Instant.ofEpochMilli(ts), type,
+        new String(a, 0, len, StandardCharsets.UTF_8), entityId, value, previous);
+  }
+}
@@ -0,0 +1,190 @@
+// audit/AuditLog.java
+package com.pahana.edu.billing.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous audit trail. Service calls {@link #record} into a pre-allocated ring of mutable
+ * slots (multi-producer, no allocation on the caller's side); a single writer thread drains the
+ * ring in batches into append-only files under {@code app.audit.directory}, rotating by size
+ * and forcing to disk according to {@link AuditProperties.Fsync}.
+ * <p>
+ * Inside a transaction the event is held back until after commit, so a rolled-back bill or
+ * price change never reaches the trail. A full ring applies back-pressure to producers rather
+ * than dropping entries.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditLog {
+  private static final class Slot {
+    long epochMs;
+    AuditEventType type;
+    String actor;
+    long entityId;
+    double value;
+    double previous;
+  }
+
+  private static final long SHUTDOWN_GRACE_NANOS = 200_000_000L;
+
+  private final AuditProperties props;
+  private final Slot[] slots;
+  private final AtomicLongArray published;
+  private final int mask;
+  private final AtomicLong claimed = new AtomicLong(-1);
+  private volatile long consumed = -1;
+  private volatile boolean running;
+  private volatile boolean writerDone;
+  private Thread writer;
+
+  private final ByteBuffer batch;
+  private FileChannel channel;
+  private long lastForce;
+
+  public AuditLog(AuditProperties props){
+    this.props = props;
+    int size = Integer.highestOneBit(Math.max(2, props.ringSize() - 1)) << 1;
+    this.mask = size - 1;
+    this.slots = new Slot[size];
+    this.published = new AtomicLongArray(size);
+    for(int i = 0; i < size; i++){ slots[i] = new Slot(); published.set(i, -1); }
+    this.batch = ByteBuffer.allocateDirect(props.batchSize() * AuditFileFormat.RECORD_SIZE)
+        .order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  @PostConstruct
+  void start() throws IOException {
+    if(!props.enabled()) return;
+    Files.createDirectories(Path.of(props.directory()));
+    running = true;
+    writer = new Thread(this::drainLoop, "audit-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  @PreDestroy
+  void stop() throws InterruptedException {
+    running = false;
+    if(writer != null) writer.join(5_000);
+  }
+
+  /** Records an event on behalf of the currently authenticated user. */
+  public void record(AuditEventType type, long entityId, double value, double previous){
+    var auth = SecurityContextHolder.getContext().getAuthentication();
+    record(type, auth != null ? auth.getName() : null, entityId, value, previous);
+  }
+
+  public void record(AuditEventType type, String actor, long entityId, double value, double previous){
+    if(!running) return;
+    if(TransactionSynchronizationManager.isSynchronizationActive()){
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override public void afterCommit(){ publish(type, actor, entityId, value, previous); }
+      });
+      return;
+    }
+    publish(type, actor, entityId, value, previous);
+  }
+
+  private void publish(AuditEventType type, String actor, long entityId, double value, double previous){
+    long seq = claimed.incrementAndGet();
+    while(seq - consumed > mask){                                  // ring full
+      if(writerDone) return;
+      LockSupport.parkNanos(1_000);
+    }
+    Slot s = slots[(int) seq & mask];
+    s.epochMs = System.currentTimeMillis();
+    s.type = type;
+    s.actor = actor;
+    s.entityId = entityId;
+    s.value = value;
+    s.previous = previous;
+    published.lazySet((int) seq & mask, seq);
+  }
+
+  private void drainLoop(){
+    try {
+      while(running){
+        long last = drainBatch();
+        if(last < 0){
+          if(props.fsync() == AuditProperties.Fsync.INTERVAL) maybeForce();
+          LockSupport.parkNanos(1_000_000);
+        }
+      }
+      // Producers still waiting on a full ring get to publish while the tail drains; the deadline
+      // bounds shutdown if a claimed slot is never published.
+      long deadline = System.nanoTime() + SHUTDOWN_GRACE_NANOS;
+      while(consumed < claimed.get() && System.nanoTime() < deadline){
+        if(drainBatch() < 0) LockSupport.parkNanos(1_000_000);
+      }
+      if(channel != null){ channel.force(false); channel.close(); }
+    } catch(IOException e){
+      running = false;
+      log.error("Audit writer stopped; further audit events are discarded", e);
+    } finally {
+      writerDone = true;                                           // releases producers waiting on a full ring
+    }
+  }
+
+  /** @return the last sequence written, or -1 if nothing was ready */
+  private long drainBatch() throws IOException {
+    long next = consumed + 1;
+    long end = next + props.batchSize();
+    long seq = next;
+    batch.clear();
+    for(; seq < end; seq++){
+      int idx = (int) seq & mask;
+      if(published.get(idx) != seq) break;
+      Slot s = slots[idx];
+      AuditFileFormat.write(batch, seq, s.epochMs, s.type, s.actor, s.entityId, s.value, s.previous);
+      s.actor = null;
+    }
+    if(seq == next) return -1;
+    batch.flip();
+    FileChannel ch = channelFor(batch.remaining());
+    while(batch.hasRemaining()) ch.write(batch);
+    switch(props.fsync()){
+      case BATCH -> ch.force(false);
+      case INTERVAL -> maybeForce();
+      case NONE -> {}
+    }
+    consumed = seq - 1;
+    return seq - 1;
+  }
+
+  private void maybeForce() throws IOException {
+    long now = System.currentTimeMillis();
+    if(channel != null && now - lastForce >= props.fsyncIntervalMs()){
+      channel.force(false);
+      lastForce = now;
+    }
+  }
+
+  private FileChannel channelFor(int bytes) throws IOException {
+    if(channel != null && channel.size() + bytes > props.maxFileBytes()){
+      channel.force(false);
+      channel.close();
+      channel = null;
+    }
+    if(channel == null){
+      Path file = Path.of(props.directory(), AuditFileFormat.fileName(System.currentTimeMillis(), consumed + 1));
+      channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+    return channel;
+  }
+}
@@ -0,0 +1,86 @@
+// audit/AuditLogReader.java
+package com.pahana.edu.billing.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Scans the audit files written by {@link AuditLog}. Used by the admin endpoint and runnable
+ * standalone against a copied directory:
+ * <pre>java -cp app.jar ... AuditLogReader &lt;dir&gt; [type] [entityId]</pre>
+ */
+public final class AuditLogReader {
+  private final Path directory;
+
+  public AuditLogReader(Path directory){ this.directory = directory; }
+
+  public record Query(AuditEventType type, Long entityId, String actor, Instant from, Instant to, int limit) {
+    Predicate<AuditRecord> predicate(){
+      return r -> (type == null || r.type() == type)
+          && (entityId == null || r.entityId() == entityId)
+          && (actor == null || actor.equals(r.actor()))
+          && (from == null || !r.timestamp().isBefore(from))
+          && (to == null || r.timestamp().isBefore(to));
+    }
+  }
+
+  /**
+   * Matching records in write order, at most {@code q.limit()} of them. With {@code q.from()} set,
+   * files are skipped when their successor was opened before it: a file only holds events
+   * recorded before the next one was opened.
+   */
+  public List<AuditRecord> find(Query q) throws IOException {
+    var matches = new ArrayList<AuditRecord>();
+    if(q.limit() <= 0 || !Files.isDirectory(directory)) return matches;
+    var test = q.predicate();
+    List<Path> files;
+    try(Stream<Path> s = Files.list(directory)){
+      files = s.filter(p -> AuditFileFormat.isAuditFile(p.getFileName().toString())).sorted().toList();
+    }
+    int first = 0;
+    if(q.from() != null){
+      long fromMs = q.from().toEpochMilli();
+      while(first + 1 < files.size()
+          && AuditFileFormat.openedEpochMs(files.get(first + 1).getFileName().toString()) < fromMs) first++;
+    }
+    var buf = ByteBuffer.allocate(AuditFileFormat.RECORD_SIZE * 1024).order(ByteOrder.LITTLE_ENDIAN);
+    for(Path f : files.subList(first, files.size())){
+      try(FileChannel ch = FileChannel.open(f, StandardOpenOption.READ)){
+        buf.clear();
+        while(ch.read(buf) > 0 || buf.position() > 0){
+          buf.flip();
+          if(buf.remaining() < AuditFileFormat.RECORD_SIZE) break;   // torn tail from a crash
+          while(buf.remaining() >= AuditFileFormat.RECORD_SIZE){
+            var r = AuditFileFormat.read(buf);
+            if(test.test(r)){
+              matches.add(r);
+              if(matches.size() >= q.limit()) return matches;
+            }
+          }
+          buf.compact();
+        }
+      }
+    }
+    return matches;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if(args.length < 1){
+      System.err.println("usage: AuditLogReader <dir> [type] [entityId]");
+      System.exit(2);
+    }
+    var q = new Query(args.length > 1 ? AuditEventType.valueOf(args[1]) : null,
+        args.length > 2 ? Long.valueOf(args[2]) : null, null, null, null, Integer.MAX_VALUE);
+    for(var r : new AuditLogReader(Path.of(args[0])).find(q))
+      System.out.printf("%s %8d %-18s %-20s %10d %12.2f %12.2f%n", r.timestamp(), r.sequence(), r.type(),
+          r.actor(), r.entityId(), r.value(), r.previous());
+  }
+}
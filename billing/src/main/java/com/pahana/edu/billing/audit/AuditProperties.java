@@ -0,0 +1,19 @@
+// audit/AuditProperties.java
+package com.pahana.edu.billing.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.audit")
+public record AuditProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("audit") String directory,
+    @DefaultValue("8192") int ringSize,          // rounded up to a power of two
+    @DefaultValue("256") int batchSize,
+    @DefaultValue("67108864") long maxFileBytes,
+    @DefaultValue("BATCH") Fsync fsync,
+    @DefaultValue("1000") long fsyncIntervalMs
+) {
+  /** BATCH forces every written batch to disk, INTERVAL at most every fsyncIntervalMs, NONE leaves it to the OS. */
+  public enum Fsync { BATCH, INTERVAL, NONE }
+}
@@ -0,0 +1,11 @@
+// audit/AuditRecord.java
+package com.pahana.edu.billing.audit;
+
+import java.time.Instant;
+
+/**
+ * One decoded audit entry. {@code value}/{@code previous} carry the amount involved
+ * (bill total, new/old item price) and are 0 for events without one.
+ */
+public record AuditRecord(long sequence, Instant timestamp, AuditEventType type, String actor,
+                          long entityId, double value, double previous) {}
@@ -0,0 +1,126 @@
+// config/AdmissionControlFilter.java
+package com.pahana.edu.billing.config;
+
+import com.pahana.edu.billing.domain.enums.UserType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.*;
+import jakarta.servlet.http.*;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sheds load before it reaches the connection pool. Runs right after {@link JwtAuthFilter}
+ * so the caller is known: each user and each role draws from a token bucket, and configured
+ * heavy endpoints are additionally capped on in-flight requests. Rejections fail fast with
+ * 429/503 and a Retry-After header; outcomes are counted under {@code admission.requests}.
+ */
+@Component
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+  private final AdmissionProperties props;
+  private final AntPathMatcher matcher = new AntPathMatcher();
+  private final Map<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+  private final Map<UserType, TokenBucket> roleBuckets = new EnumMap<>(UserType.class);
+  private final List<Heavy> heavy;
+  private final MeterRegistry meters;
+  private final Counter admitted;
+
+  private record Heavy(AdmissionProperties.HeavyEndpoint endpoint, Semaphore permits) {}
+
+  public AdmissionControlFilter(AdmissionProperties props, MeterRegistry meters){
+    this.props = props;
+    this.meters = meters;
+    props.roles().forEach((role, b) -> roleBuckets.put(role, new TokenBucket(b.capacity(), b.refillPerSecond())));
+    this.heavy = props.heavyEndpoints().stream()
+        .map(e -> new Heavy(e, new Semaphore(e.maxConcurrent())))
+        .toList();
+    this.admitted = Counter.builder("admission.requests").tag("outcome", "admitted").tag("reason", "none")
+        .register(meters);
+    heavy.forEach(h -> meters.gauge("admission.inflight", Tags.of("endpoint", h.endpoint().name()),
+        h, x -> x.endpoint().maxConcurrent() - x.permits().availablePermits()));
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !props.enabled() || !request.getRequestURI().startsWith("/api/");
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+      throws ServletException, IOException {
+
+    Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+    if(auth != null && auth.isAuthenticated()){
+      long waitNanos = userBucket(auth.getName()).tryAcquire();
+      if(waitNanos > 0){ reject(res, HttpStatus.TOO_MANY_REQUESTS, "user", waitNanos); return; }
+
+      UserType role = roleOf(auth);
+      TokenBucket rb = role != null ? roleBuckets.get(role) : null;
+      if(rb != null && (waitNanos = rb.tryAcquire()) > 0){
+        reject(res, HttpStatus.TOO_MANY_REQUESTS, "role", waitNanos); return;
+      }
+    }
+
+    Heavy h = heavyFor(req);
+    if(h == null){ admitted.increment(); chain.doFilter(req, res); return; }
+    if(!h.permits().tryAcquire()){
+      reject(res, HttpStatus.SERVICE_UNAVAILABLE, "concurrency",
+          TimeUnit.SECONDS.toNanos(props.concurrencyRetryAfterSeconds()));
+      return;
+    }
+    try {
+      admitted.increment();
+      chain.doFilter(req, res);
+    } finally {
+      h.permits().release();
+    }
+  }
+
+  private TokenBucket userBucket(String username){
+    return userBuckets.computeIfAbsent(username,
+        u -> new TokenBucket(props.user().capacity(), props.user().refillPerSecond()));
+  }
+
+  private static UserType roleOf(Authentication auth){
+    for(var a : auth.getAuthorities()){
+      String name = a.getAuthority();
+      if(name.startsWith("ROLE_")){
+        try { return UserType.valueOf(name.substring(5)); } catch(IllegalArgumentException ignored) {}
+      }
+    }
+    return null;
+  }
+
+  private Heavy heavyFor(HttpServletRequest req){
+    for(var h : heavy){
+      var e = h.endpoint();
+      if((e.method() == null || e.method().equalsIgnoreCase(req.getMethod()))
+          && matcher.match(e.path(), req.getRequestURI())) return h;
+    }
+    return null;
+  }
+
+  private void reject(HttpServletResponse res, HttpStatus status, String reason, long waitNanos) throws IOException {
+    meters.counter("admission.requests", "outcome", "rejected", "reason", reason).increment();
+    long retryAfter = Math.max(1L, (waitNanos + 999_999_999L) / 1_000_000_000L);
+    res.setStatus(status.value());
+    res.setHeader("Retry-After", Long.toString(retryAfter));
+    res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    res.getWriter().write("{\"error\":\"Too many requests (" + reason + " limit)\"}");
+  }
+}
@@ -0,0 +1,28 @@
+// config/AdmissionProperties.java
+package com.pahana.edu.billing.config;
+
+import com.pahana.edu.billing.domain.enums.UserType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import java.util.List;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "app.admission")
+public record AdmissionProperties(
+    @DefaultValue("true") boolean enabled,
+    Bucket user,
+    Map<UserType, Bucket> roles,
+    List<HeavyEndpoint> heavyEndpoints,
+    @DefaultValue("1") long concurrencyRetryAfterSeconds
+) {
+  public AdmissionProperties {
+    user = user != null ? user : new Bucket(40, 20);
+    roles = roles != null ? roles : Map.of();
+    heavyEndpoints = heavyEndpoints != null ? heavyEndpoints : List.of();
+  }
+
+  public record Bucket(long capacity, double refillPerSecond) {}
+
+  /** A request matching {@code method} (null = any) and the ant-style {@code path} counts against {@code maxConcurrent}. */
+  public record HeavyEndpoint(String name, String method, String path, int maxConcurrent) {}
+}
@@ -0,0 +1,51 @@
+// config/FlywayConfig.java
+package com.pahana.edu.billing.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+
+/**
+ * Both profiles migrate with Flyway. A database without schema history is baselined at
+ * {@code spring.flyway.baseline-version} (V1 = the schema of the old ddl-auto build); if
+ * ddl-auto=update already created objects of a later migration, baselining there would fail
+ * half-way (duplicate column, table exists), so startup stops with the cut-over steps instead.
+ */
+@Configuration
+public class FlywayConfig {
+  private record LaterObject(int version, String countSql) {}
+
+  /** Objects ddl-auto could have created ahead of Flyway, with the migration that owns them. */
+  private static final List<LaterObject> LATER_OBJECTS = List.of(
+      new LaterObject(3, "SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE()"
+                       + " AND table_name = 'customers' AND column_name = 'deleted'"),
+      new LaterObject(4, "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE()"
+                       + " AND table_name = 'customer_ledgers'"),
+      new LaterObject(5, "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE()"
+                       + " AND table_name = 'tax_rules'"));
+
+  @Bean
+  FlywayMigrationStrategy guardedMigration(){
+    return flyway -> {
+      if(flyway.info().applied().length == 0) checkBaseline(flyway);
+      flyway.migrate();
+    };
+  }
+
+  private static void checkBaseline(Flyway flyway){
+    var cfg = flyway.getConfiguration();
+    int baseline = Integer.parseInt(cfg.getBaselineVersion().getVersion());
+    var jdbc = new JdbcTemplate(cfg.getDataSource());
+    int ahead = 0;
+    for(var o : LATER_OBJECTS){
+      Integer n = jdbc.queryForObject(o.countSql(), Integer.class);
+      if(n != null && n > 0) ahead = Math.max(ahead, o.version());
+    }
+    if(ahead > baseline) throw new IllegalStateException(
+        "Schema has no Flyway history but ddl-auto already created objects of V" + ahead
+      + "; baselining at V" + baseline + " would fail. Run scripts/adopt-ddl-schema.sql up to V" + ahead
+      + " and start once with --spring.flyway.baseline-version=" + ahead + ", or recreate the database.");
+  }
+}
@@ -21,6 +21,7 @@ import java.util.Arrays;
 @Configuration @RequiredArgsConstructor
 public class SecurityConfig {
   private final JwtAuthFilter jwtAuthFilter;
+  private final AdmissionControlFilter admissionControlFilter;
 
   @Bean
   SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -31,11 +32,12 @@ public class SecurityConfig {
         .authorizeHttpRequests(auth -> auth
             .requestMatchers("/api/health").permitAll()  // Move this first
             .requestMatchers("/api/auth/**").permitAll()
-            .requestMatchers(HttpMethod.GET, "/api/items/**", "/api/customers/**").hasAnyRole("ADMIN","CASHIER")
+            .requestMatchers(HttpMethod.GET, "/api/items/**", "/api/customers/**", "/api/bills/*/receipt").hasAnyRole("ADMIN","CASHIER")
             .requestMatchers("/api/**").hasRole("ADMIN")
             .anyRequest().authenticated()
         )
         .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+        .addFilterAfter(admissionControlFilter, JwtAuthFilter.class)
         .build();
   }
 
@@ -0,0 +1,26 @@
+// config/TokenBucket.java
+package com.pahana.edu.billing.config;
+
+/** Classic token bucket; refills lazily on each acquire so idle buckets cost nothing. */
+final class TokenBucket {
+  private final double capacity;
+  private final double refillPerNano;
+  private double tokens;
+  private long lastRefill;
+
+  TokenBucket(long capacity, double refillPerSecond){
+    this.capacity = capacity;
+    this.refillPerNano = refillPerSecond / 1_000_000_000d;
+    this.tokens = capacity;
+    this.lastRefill = System.nanoTime();
+  }
+
+  /** @return 0 if a token was taken, otherwise the nanos until one becomes available */
+  synchronized long tryAcquire(){
+    long now = System.nanoTime();
+    tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+    lastRefill = now;
+    if(tokens >= 1d){ tokens -= 1d; return 0L; }
+    return (long) Math.ceil((1d - tokens) / refillPerNano);
+  }
+}
@@ -10,5 +10,9 @@ public record CustomerResponse(
     String address,
     String telephoneNumber,
     LocalDate registrationDate,
-    String status
+    String status,
+    Double outstandingBalance,
+    Double lifetimeSpend,
+    Integer billCount,
+    LocalDate lastPurchaseDate
 ) {}
\ No newline at end of file
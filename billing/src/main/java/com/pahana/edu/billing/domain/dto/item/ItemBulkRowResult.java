@@ -0,0 +1,5 @@
+
+package com.pahana.edu.billing.domain.dto.item;
+
+/** {@code row} is 1-based: the list position for JSON, the line number for CSV. */
+public record ItemBulkRowResult(int row, Long itemId, boolean applied, String error) {}
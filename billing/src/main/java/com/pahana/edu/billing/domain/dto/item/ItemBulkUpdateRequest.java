@@ -0,0 +1,6 @@
+
+package com.pahana.edu.billing.domain.dto.item;
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+public record ItemBulkUpdateRequest(@NotNull List<ItemDeltaRequest> rows) {}
@@ -0,0 +1,5 @@
+
+package com.pahana.edu.billing.domain.dto.item;
+import java.util.List;
+
+public record ItemBulkUpdateResponse(int applied, int rejected, List<ItemBulkRowResult> rows) {}
@@ -0,0 +1,5 @@
+
+package com.pahana.edu.billing.domain.dto.item;
+
+/** One goods-receipt / repricing line: stock is added to, price replaced when present. */
+public record ItemDeltaRequest(Long itemId, Integer stockIncrement, Double newPrice) {}
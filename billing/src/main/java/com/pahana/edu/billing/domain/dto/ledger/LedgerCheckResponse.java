@@ -0,0 +1,5 @@
+
+package com.pahana.edu.billing.domain.dto.ledger;
+import java.util.List;
+
+public record LedgerCheckResponse(int checked, int mismatched, boolean repaired, List<LedgerMismatch> mismatches) {}
@@ -0,0 +1,10 @@
+
+package com.pahana.edu.billing.domain.dto.ledger;
+import java.time.LocalDate;
+
+/** Ledger row as stored vs. as recomputed from bills; {@code stored*} are null when the row was missing. */
+public record LedgerMismatch(Long customerId,
+                             Double storedOutstanding, Double expectedOutstanding,
+                             Double storedLifetimeSpend, Double expectedLifetimeSpend,
+                             Integer storedBillCount, Integer expectedBillCount,
+                             LocalDate storedLastPurchase, LocalDate expectedLastPurchase) {}
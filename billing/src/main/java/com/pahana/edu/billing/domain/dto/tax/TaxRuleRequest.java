@@ -0,0 +1,7 @@
+
+package com.pahana.edu.billing.domain.dto.tax;
+import jakarta.validation.constraints.*;
+import java.time.LocalDate;
+
+public record TaxRuleRequest(String category, String customerStatus,
+                             @NotNull @PositiveOrZero Double ratePercent, @NotNull LocalDate effectiveFrom) {}
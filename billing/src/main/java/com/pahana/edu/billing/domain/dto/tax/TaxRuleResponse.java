@@ -0,0 +1,6 @@
+
+package com.pahana.edu.billing.domain.dto.tax;
+import java.time.LocalDate;
+
+public record TaxRuleResponse(Long ruleId, String category, String customerStatus,
+                              Double ratePercent, LocalDate effectiveFrom) {}
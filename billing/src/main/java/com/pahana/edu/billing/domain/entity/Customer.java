@@ -4,6 +4,7 @@ package com.pahana.edu.billing.domain.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -24,6 +25,11 @@ public class Customer {
   private LocalDate registrationDate;
   private String status;
 
-  @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL)
+  /** Soft-delete flag; reads filter on it and SoftDeletePurgeJob removes the rows later. */
+  @Column(nullable=false) private boolean deleted;
+  private Instant deletedAt;
+
+  // no cascade: bills are only ever removed in bulk by the purge job
+  @OneToMany(mappedBy = "customer")
   private List<Bill> bills;
 }
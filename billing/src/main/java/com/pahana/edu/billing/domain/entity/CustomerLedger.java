@@ -0,0 +1,27 @@
+// domain/entity/CustomerLedger.java
+package com.pahana.edu.billing.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Running per-customer totals, kept in step with bills inside the billing transaction.
+ * Separate from {@link Customer} so customer edits (full-row updates) never race with checkout.
+ */
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Entity @Table(name = "customer_ledgers")
+public class CustomerLedger {
+  @Id
+  private Long customerId;
+
+  @Column(nullable=false) private Double outstandingBalance;
+  @Column(nullable=false) private Double lifetimeSpend;
+  @Column(nullable=false) private Integer billCount;
+  private LocalDate lastPurchaseDate;
+
+  public static CustomerLedger empty(Long customerId){
+    return new CustomerLedger(customerId, 0.0, 0.0, 0, null);
+  }
+}
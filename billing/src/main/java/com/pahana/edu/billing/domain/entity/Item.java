@@ -4,6 +4,8 @@ package com.pahana.edu.billing.domain.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
+
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 @Entity @Table(name = "items")
 public class Item {
@@ -21,4 +23,8 @@ public class Item {
 
   @Column(nullable=false)
   private Integer stockQuantity;
+
+  /** Soft-delete flag; bill lines keep pointing at deleted items until their bills are purged. */
+  @Column(nullable=false) private boolean deleted;
+  private Instant deletedAt;
 }
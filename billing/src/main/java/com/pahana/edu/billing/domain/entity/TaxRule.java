@@ -0,0 +1,28 @@
+// domain/entity/TaxRule.java
+package com.pahana.edu.billing.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * A tax rate that applies from {@code effectiveFrom} until superseded by a later rule with the
+ * same scope. A null {@code category} or {@code customerStatus} matches any; a 0% rule scoped to
+ * a customer status is an exemption.
+ */
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Entity @Table(name = "tax_rules")
+public class TaxRule {
+  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long ruleId;
+
+  @Column(length=60)
+  private String category;
+
+  @Column(length=60)
+  private String customerStatus;
+
+  @Column(nullable=false) private Double ratePercent;
+  @Column(nullable=false) private LocalDate effectiveFrom;
+}
@@ -0,0 +1,5 @@
+// exception/ConflictException.java
+package com.pahana.edu.billing.exception;
+public class ConflictException extends RuntimeException {
+  public ConflictException(String msg){ super(msg); }
+}
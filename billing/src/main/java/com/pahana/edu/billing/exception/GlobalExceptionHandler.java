@@ -14,6 +14,10 @@ public class GlobalExceptionHandler {
   public ResponseEntity<?> notFound(NotFoundException ex){
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", ex.getMessage()));
   }
+  @ExceptionHandler(ConflictException.class)
+  public ResponseEntity<?> conflict(ConflictException ex){
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", ex.getMessage()));
+  }
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<?> validation(MethodArgumentNotValidException ex){
     var errors = ex.getBindingResult().getFieldErrors()
@@ -0,0 +1,31 @@
+// receipt/ReceiptFormat.java
+package com.pahana.edu.billing.receipt;
+
+/** Output flavours; prefix/separator/suffix frame several receipts in one batch document. */
+public enum ReceiptFormat {
+  TEXT("text/plain;charset=UTF-8", "receipts/receipt.txt", false, "", "\f\n", ""),
+  HTML("text/html;charset=UTF-8", "receipts/receipt.html", true,
+      "<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>Receipts</title>"
+    + "<style>body{font-family:monospace}.receipt{page-break-after:always;max-width:28em}"
+    + "table{width:100%}td.n{text-align:right}</style></head><body>\n",
+      "\n", "</body></html>\n");
+
+  final String contentType;
+  final String templatePath;
+  final boolean html;
+  final String prefix, separator, suffix;
+
+  ReceiptFormat(String contentType, String templatePath, boolean html, String prefix, String separator, String suffix){
+    this.contentType = contentType;
+    this.templatePath = templatePath;
+    this.html = html;
+    this.prefix = prefix;
+    this.separator = separator;
+    this.suffix = suffix;
+  }
+
+  public String contentType(){ return contentType; }
+  public String prefix(){ return prefix; }
+  public String separator(){ return separator; }
+  public String suffix(){ return suffix; }
+}
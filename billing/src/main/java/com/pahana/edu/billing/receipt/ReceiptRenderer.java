@@ -0,0 +1,107 @@
+// receipt/ReceiptRenderer.java
+package com.pahana.edu.billing.receipt;
+
+import com.pahana.edu.billing.domain.dto.bill.BillResponse;
+import com.pahana.edu.billing.domain.enums.PaymentStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renders bills with templates compiled at startup. Receipts of PAID/CANCELLED bills can no
+ * longer change, so they are kept (LRU, {@code app.receipts.cache-size}) together with a
+ * content ETag; anything else is rendered on every request. Batches render on their own
+ * {@code app.receipts.batch-threads} pool and only read the cache, so a print run neither
+ * evicts the single-receipt working set nor occupies the common ForkJoinPool.
+ */
+@Component
+public class ReceiptRenderer {
+  public record Rendered(byte[] body, String etag) {}
+  private record Key(Long billId, ReceiptFormat format) {}
+
+  private final Map<ReceiptFormat, ReceiptTemplate> templates = new EnumMap<>(ReceiptFormat.class);
+  private final Map<Key, Rendered> cache;
+  private final ExecutorService batchPool;
+
+  public ReceiptRenderer(@Value("${app.receipts.cache-size:2000}") int cacheSize,
+                         @Value("${app.receipts.batch-threads:2}") int batchThreads){
+    this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+      @Override protected boolean removeEldestEntry(Map.Entry<Key, Rendered> e){ return size() > cacheSize; }
+    };
+    var n = new AtomicInteger();
+    this.batchPool = Executors.newFixedThreadPool(Math.max(1, batchThreads), r -> {
+      var t = new Thread(r, "receipt-batch-" + n.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    });
+  }
+
+  @PostConstruct
+  void compileTemplates() throws IOException {
+    for(var f : ReceiptFormat.values()){
+      try(var in = new ClassPathResource(f.templatePath).getInputStream()){
+        templates.put(f, ReceiptTemplate.compile(StreamUtils.copyToString(in, StandardCharsets.UTF_8), f.html));
+      }
+    }
+  }
+
+  @PreDestroy
+  void shutdown(){ batchPool.shutdownNow(); }
+
+  public static boolean isImmutable(BillResponse b){
+    return b.paymentStatus() == PaymentStatus.PAID || b.paymentStatus() == PaymentStatus.CANCELLED;
+  }
+
+  public Rendered cached(Long billId, ReceiptFormat format){
+    synchronized(cache){ return cache.get(new Key(billId, format)); }
+  }
+
+  /** Streams straight into {@code out}; no buffering beyond the writer's own. */
+  public void render(BillResponse bill, ReceiptFormat format, Writer out) throws IOException {
+    templates.get(format).render(bill, out);
+  }
+
+  /** Renders to bytes, going through the cache for immutable bills. */
+  public Rendered renderBytes(BillResponse bill, ReceiptFormat format){
+    return renderBytes(bill, format, true);
+  }
+
+  /** Renders {@code bills} in parallel on the batch pool; results keep the input order. */
+  public List<Rendered> renderBatch(List<BillResponse> bills, ReceiptFormat format){
+    var futures = bills.stream()
+        .map(b -> CompletableFuture.supplyAsync(() -> renderBytes(b, format, false), batchPool))
+        .toList();
+    return futures.stream().map(CompletableFuture::join).toList();
+  }
+
+  private Rendered renderBytes(BillResponse bill, ReceiptFormat format, boolean populateCache){
+    if(isImmutable(bill)){
+      var hit = cached(bill.billId(), format);
+      if(hit != null) return hit;
+    }
+    var buf = new ByteArrayOutputStream(1024);
+    try(var w = new OutputStreamWriter(buf, StandardCharsets.UTF_8)){
+      render(bill, format, w);
+    } catch(IOException e){
+      throw new UncheckedIOException(e);
+    }
+    byte[] body = buf.toByteArray();
+    var r = new Rendered(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    if(populateCache && isImmutable(bill)) synchronized(cache){ cache.put(new Key(bill.billId(), format), r); }
+    return r;
+  }
+}
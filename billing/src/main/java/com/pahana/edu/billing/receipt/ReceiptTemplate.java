@@ -0,0 +1,129 @@
+// receipt/ReceiptTemplate.java
+package com.pahana.edu.billing.receipt;
+
+import com.pahana.edu.billing.domain.dto.bill.BillItemResponse;
+import com.pahana.edu.billing.domain.dto.bill.BillResponse;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A receipt template parsed once into a flat array of segments. Syntax:
+ * <ul>
+ *   <li>{@code {{field}}} – bill field; {@code {{field:12}}} right-aligns to 12 columns,
+ *       {@code {{field:-20}}} left-aligns and truncates to 20 (for fixed-width printers)</li>
+ *   <li>{@code {{#items}} ... {{/items}}} – repeated per bill line; line fields are visible inside</li>
+ * </ul>
+ * Unknown fields fail at compile time, i.e. at startup. Doubles render with two decimals.
+ */
+final class ReceiptTemplate {
+  private interface Segment { void render(BillResponse bill, BillItemResponse line, Writer out) throws IOException; }
+
+  private static final Map<String, Function<BillResponse, Object>> BILL_FIELDS = Map.of(
+      "billNumber", BillResponse::billNumber,
+      "billDate", BillResponse::billDate,
+      "customerId", BillResponse::customerId,
+      "customerName", BillResponse::customerName,
+      "netAmount", b -> b.totalAmount() - b.taxAmount(),
+      "taxAmount", BillResponse::taxAmount,
+      "totalAmount", BillResponse::totalAmount,
+      "paymentStatus", BillResponse::paymentStatus);
+
+  private static final Map<String, Function<BillItemResponse, Object>> LINE_FIELDS = Map.of(
+      "itemId", BillItemResponse::itemId,
+      "itemName", BillItemResponse::itemName,
+      "quantity", BillItemResponse::quantity,
+      "unitPrice", BillItemResponse::unitPrice,
+      "subtotal", BillItemResponse::subtotal);
+
+  private final Segment[] segments;
+
+  private ReceiptTemplate(Segment[] segments){ this.segments = segments; }
+
+  static ReceiptTemplate compile(String source, boolean html){
+    return new ReceiptTemplate(new Parser(source, html).parse(null));
+  }
+
+  void render(BillResponse bill, Writer out) throws IOException {
+    for(Segment s : segments) s.render(bill, null, out);
+  }
+
+  private static final class Parser {
+    private final String src;
+    private final boolean html;
+    private int pos;
+
+    Parser(String src, boolean html){ this.src = src; this.html = html; }
+
+    Segment[] parse(String section){
+      List<Segment> out = new ArrayList<>();
+      while(true){
+        int open = src.indexOf("{{", pos);
+        if(open < 0){
+          if(section != null) throw new IllegalStateException("Unclosed {{#" + section + "}}");
+          literal(out, src.substring(pos));
+          return out.toArray(Segment[]::new);
+        }
+        literal(out, src.substring(pos, open));
+        int close = src.indexOf("}}", open);
+        if(close < 0) throw new IllegalStateException("Unterminated tag at offset " + open);
+        String tag = src.substring(open + 2, close).trim();
+        pos = close + 2;
+        if(tag.startsWith("#")){
+          if(!tag.equals("#items")) throw new IllegalStateException("Unknown section " + tag);
+          Segment[] body = parse("items");
+          out.add((bill, line, w) -> {
+            for(var item : bill.items()) for(Segment s : body) s.render(bill, item, w);
+          });
+        } else if(tag.startsWith("/")){
+          if(!tag.substring(1).equals(section)) throw new IllegalStateException("Unexpected {{" + tag + "}}");
+          return out.toArray(Segment[]::new);
+        } else {
+          out.add(field(tag, section != null));
+        }
+      }
+    }
+
+    private static void literal(List<Segment> out, String text){
+      if(!text.isEmpty()) out.add((bill, line, w) -> w.write(text));
+    }
+
+    private Segment field(String tag, boolean inItems){
+      int colon = tag.indexOf(':');
+      String name = colon < 0 ? tag : tag.substring(0, colon);
+      int width = colon < 0 ? 0 : Integer.parseInt(tag.substring(colon + 1).trim());
+      boolean esc = html;
+      var lineField = inItems ? LINE_FIELDS.get(name) : null;
+      if(lineField != null) return (bill, line, w) -> write(w, lineField.apply(line), width, esc);
+      var billField = BILL_FIELDS.get(name);
+      if(billField == null) throw new IllegalStateException("Unknown receipt field " + name);
+      return (bill, line, w) -> write(w, billField.apply(bill), width, esc);
+    }
+  }
+
+  private static void write(Writer w, Object value, int width, boolean html) throws IOException {
+    String s = value == null ? ""
+        : value instanceof Double d ? String.format(Locale.ROOT, "%.2f", d)
+        : value.toString();
+    if(width < 0 && s.length() > -width) s = s.substring(0, -width);
+    int pad = Math.abs(width) - s.length();
+    if(width > 0) for(int i = 0; i < pad; i++) w.write(' ');
+    w.write(html ? escape(s) : s);
+    if(width < 0) for(int i = 0; i < pad; i++) w.write(' ');
+  }
+
+  private static String escape(String s){
+    StringBuilder b = null;
+    for(int i = 0; i < s.length(); i++){
+      char c = s.charAt(i);
+      String r = switch(c){ case '<' -> "&lt;"; case '>' -> "&gt;"; case '&' -> "&amp;"; case '"' -> "&quot;"; case '\'' -> "&#39;"; default -> null; };
+      if(r != null && b == null) b = new StringBuilder(s.length() + 16).append(s, 0, i);
+      if(b != null){ if(r != null) b.append(r); else b.append(c); }
+    }
+    return b == null ? s : b.toString();
+  }
+}
@@ -1,12 +1,26 @@
 // repository/BillRepository.java
 package com.pahana.edu.billing.repository;
 import com.pahana.edu.billing.domain.entity.Bill;
+import com.pahana.edu.billing.domain.enums.PaymentStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 public interface BillRepository extends JpaRepository<Bill, Long> {
   List<Bill> findByCustomer_CustomerId(Long customerId);
   boolean existsByBillNumber(String billNumber);
+
+  @EntityGraph(attributePaths = {"customer", "items", "items.item"})
+  List<Bill> findByBillDateOrderByBillIdAsc(LocalDate billDate);
+
+  /** Compare-and-set on the status; 1 means this caller made the transition. */
+  @Modifying
+  @Query("update Bill b set b.paymentStatus = :to where b.billId = :id and b.paymentStatus = :from")
+  int transitionStatus(@Param("id") Long id, @Param("from") PaymentStatus from, @Param("to") PaymentStatus to);
 }
\ No newline at end of file
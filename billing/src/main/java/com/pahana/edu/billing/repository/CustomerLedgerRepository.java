@@ -0,0 +1,34 @@
+// repository/CustomerLedgerRepository.java
+package com.pahana.edu.billing.repository;
+import com.pahana.edu.billing.domain.entity.CustomerLedger;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface CustomerLedgerRepository extends JpaRepository<CustomerLedger, Long> {
+
+  /** Relative increment that also creates a missing row, atomically: concurrent first bills both land. */
+  @Modifying
+  @Query(nativeQuery = true, value =
+         "INSERT INTO customer_ledgers (customer_id, outstanding_balance, lifetime_spend, bill_count, last_purchase_date)"
+       + " VALUES (:id, :amount, :amount, 1, :date)"
+       + " ON DUPLICATE KEY UPDATE outstanding_balance = outstanding_balance + :amount,"
+       + " lifetime_spend = lifetime_spend + :amount, bill_count = bill_count + 1,"
+       + " last_purchase_date = CASE WHEN last_purchase_date IS NULL OR last_purchase_date < :date"
+       + " THEN :date ELSE last_purchase_date END")
+  void addBill(@Param("id") Long customerId, @Param("amount") double amount, @Param("date") LocalDate date);
+
+  @Modifying
+  @Query("update CustomerLedger l set l.outstandingBalance = l.outstandingBalance - :amount where l.customerId = :id")
+  int addPayment(@Param("id") Long customerId, @Param("amount") double amount);
+
+  @Query("select l from CustomerLedger l, Customer c"
+       + " where c.customerId = l.customerId and c.deleted = false and l.outstandingBalance > 0")
+  List<CustomerLedger> findDebtors(Pageable page);
+}
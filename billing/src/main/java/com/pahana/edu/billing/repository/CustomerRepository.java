@@ -2,10 +2,21 @@
 package com.pahana.edu.billing.repository;
 import com.pahana.edu.billing.domain.entity.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
   Optional<Customer> findByAccountNumber(String accountNumber);
+  Optional<Customer> findByCustomerIdAndDeletedFalse(Long customerId);
+  List<Customer> findAllByDeletedFalse();
+
+  @Modifying
+  @Query("update Customer c set c.deleted = true, c.deletedAt = :at where c.customerId = :id and c.deleted = false")
+  int softDelete(@Param("id") Long id, @Param("at") Instant at);
 }
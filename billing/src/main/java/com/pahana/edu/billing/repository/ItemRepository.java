@@ -2,7 +2,27 @@
 package com.pahana.edu.billing.repository;
 import com.pahana.edu.billing.domain.entity.Item;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Long> { }
+public interface ItemRepository extends JpaRepository<Item, Long> {
+  interface PriceStock { Long getItemId(); Double getPrice(); Integer getStockQuantity(); }
+
+  @Query("select i.itemId as itemId, i.price as price, i.stockQuantity as stockQuantity from Item i where i.itemId in :ids and i.deleted = false")
+  List<PriceStock> findPriceStock(@Param("ids") Collection<Long> ids);
+
+  Optional<Item> findByItemIdAndDeletedFalse(Long itemId);
+  Optional<Item> findByItemName(String itemName);
+  List<Item> findAllByDeletedFalse();
+
+  @Modifying
+  @Query("update Item i set i.deleted = true, i.deletedAt = :at where i.itemId = :id and i.deleted = false")
+  int softDelete(@Param("id") Long id, @Param("at") Instant at);
+}
@@ -0,0 +1,8 @@
+// repository/TaxRuleRepository.java
+package com.pahana.edu.billing.repository;
+import com.pahana.edu.billing.domain.entity.TaxRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaxRuleRepository extends JpaRepository<TaxRule, Long> { }
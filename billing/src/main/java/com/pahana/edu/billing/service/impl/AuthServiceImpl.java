@@ -1,6 +1,8 @@
 // service/impl/AuthServiceImpl.java
 package com.pahana.edu.billing.service.impl;
 
+import com.pahana.edu.billing.audit.AuditEventType;
+import com.pahana.edu.billing.audit.AuditLog;
 import com.pahana.edu.billing.domain.dto.auth.AuthResponse;
 import com.pahana.edu.billing.repository.UserRepository;
 import com.pahana.edu.billing.service.interfaces.AuthService;
@@ -15,13 +17,16 @@ public class AuthServiceImpl implements AuthService {
   private final UserRepository userRepo;
   private final PasswordEncoder encoder;
   private final JwtService jwtService;
+  private final AuditLog audit;
 
   @Override
   public AuthResponse login(String username, String rawPassword) {
-    var user = userRepo.findByUsername(username)
-        .orElseThrow(() -> new BadCredentialsException("Invalid credentials"));
-    if(!encoder.matches(rawPassword, user.getPassword()))
+    var user = userRepo.findByUsername(username).orElse(null);
+    if(user == null || !encoder.matches(rawPassword, user.getPassword())){
+      audit.record(AuditEventType.LOGIN_FAILURE, username, user != null ? user.getUserId() : 0L, 0, 0);
       throw new BadCredentialsException("Invalid credentials");
+    }
+    audit.record(AuditEventType.LOGIN_SUCCESS, username, user.getUserId(), 0, 0);
     return new AuthResponse(jwtService.generateToken(user.getUsername(), user.getUserType().name()));
   }
 }
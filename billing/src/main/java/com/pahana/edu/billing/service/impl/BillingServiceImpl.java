@@ -1,14 +1,17 @@
 // service/impl/BillingServiceImpl.java
 package com.pahana.edu.billing.service.impl;
 
+import com.pahana.edu.billing.audit.AuditEventType;
+import com.pahana.edu.billing.audit.AuditLog;
 import com.pahana.edu.billing.domain.dto.bill.*;
 import com.pahana.edu.billing.domain.entity.*;
 import com.pahana.edu.billing.domain.enums.PaymentStatus;
 import com.pahana.edu.billing.exception.NotFoundException;
 import com.pahana.edu.billing.repository.*;
 import com.pahana.edu.billing.service.interfaces.BillingService;
+import com.pahana.edu.billing.service.interfaces.CustomerLedgerService;
+import com.pahana.edu.billing.tax.TaxEngine;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
@@ -19,16 +22,16 @@ public class BillingServiceImpl implements BillingService {
   private final BillRepository billRepo;
   private final CustomerRepository customerRepo;
   private final ItemRepository itemRepo;
-
-  @Value("${app.billing.tax-percent:0}")
-  private double taxPercent;
+  private final AuditLog audit;
+  private final CustomerLedgerService ledger;
+  private final TaxEngine taxEngine;
 
   @Override @Transactional
   public BillResponse create(BillCreateRequest r){
     if(billRepo.existsByBillNumber(r.billNumber()))
       throw new IllegalArgumentException("Duplicate billNumber");
 
-    var customer = customerRepo.findById(r.customerId())
+    var customer = customerRepo.findByCustomerIdAndDeletedFalse(r.customerId())
         .orElseThrow(() -> new NotFoundException("Customer not found"));
 
     var bill = Bill.builder()
@@ -38,14 +41,16 @@ public class BillingServiceImpl implements BillingService {
       .paymentStatus(PaymentStatus.PENDING)
       .taxAmount(0.0).totalAmount(0.0).build();
 
-    double net = 0.0;
+    var taxes = taxEngine.table();   // one snapshot per bill, even if rules reload meanwhile
+    double net = 0.0, tax = 0.0;
     for(var itReq : r.items()){
-      var item = itemRepo.findById(itReq.itemId())
+      var item = itemRepo.findByItemIdAndDeletedFalse(itReq.itemId())
           .orElseThrow(() -> new NotFoundException("Item not found: "+itReq.itemId()));
       double unitPrice = (itReq.unitPrice()!=null? itReq.unitPrice(): item.getPrice());
       int qty = itReq.quantity();
       double subtotal = unitPrice * qty;
       net += subtotal;
+      tax += subtotal * taxes.ratePercent(customer.getStatus(), item.getCategory(), bill.getBillDate()) / 100.0;
 
       // reduce stock
       if(item.getStockQuantity() < qty) throw new IllegalArgumentException("Insufficient stock for "+item.getItemName());
@@ -57,28 +62,40 @@ public class BillingServiceImpl implements BillingService {
       bill.getItems().add(bi);
     }
 
-    double tax = (taxPercent/100.0)*net;
     bill.setTaxAmount(tax);
     bill.setTotalAmount(net + tax);
 
     billRepo.save(bill);
+    ledger.recordBill(customer.getCustomerId(), bill.getTotalAmount(), bill.getBillDate());
+    audit.record(AuditEventType.BILL_CREATED, bill.getBillId(), bill.getTotalAmount(), 0);
     return toDto(bill);
   }
 
-  @Override public BillResponse get(Long id){
+  @Override @Transactional(readOnly = true)
+  public BillResponse get(Long id){
     var b = billRepo.findById(id).orElseThrow(() -> new NotFoundException("Bill not found"));
     return toDto(b);
   }
 
-  @Override public List<BillResponse> listByCustomer(Long customerId){
+  @Override @Transactional(readOnly = true)
+  public List<BillResponse> listByCustomer(Long customerId){
     return billRepo.findByCustomer_CustomerId(customerId).stream().map(this::toDto).toList();
   }
 
+  @Override @Transactional(readOnly = true)
+  public List<BillResponse> listByDate(LocalDate billDate){
+    return billRepo.findByBillDateOrderByBillIdAsc(billDate).stream().map(this::toDto).toList();
+  }
+
   @Override @Transactional
   public BillResponse markPaid(Long billId){
+    // the conditional update row-locks the bill, so of two concurrent payments exactly one sees 1
+    boolean paidNow = billRepo.transitionStatus(billId, PaymentStatus.PENDING, PaymentStatus.PAID) == 1;
     var b = billRepo.findById(billId).orElseThrow(() -> new NotFoundException("Bill not found"));
-    b.setPaymentStatus(PaymentStatus.PAID);
-    billRepo.save(b);
+    if(paidNow){
+      ledger.recordPayment(b.getCustomer().getCustomerId(), b.getTotalAmount());
+      audit.record(AuditEventType.BILL_PAID, b.getBillId(), b.getTotalAmount(), 0);
+    }
     return toDto(b);
   }
 
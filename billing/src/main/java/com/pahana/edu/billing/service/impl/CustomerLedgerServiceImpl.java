@@ -0,0 +1,122 @@
+// service/impl/CustomerLedgerServiceImpl.java
+package com.pahana.edu.billing.service.impl;
+
+import com.pahana.edu.billing.domain.dto.ledger.*;
+import com.pahana.edu.billing.domain.entity.CustomerLedger;
+import com.pahana.edu.billing.repository.CustomerLedgerRepository;
+import com.pahana.edu.billing.service.interfaces.CustomerLedgerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains {@link CustomerLedger} with relative SQL updates inside the caller's transaction,
+ * so concurrent checkouts for the same customer never lose an increment. {@link #verify}
+ * recomputes every row from the bills table and optionally rewrites the ones that drifted.
+ * The repair is a single set-based statement that recomputes the aggregate while holding the
+ * row locks, never a write-back of the scanned snapshot, so checkouts committing during the
+ * scan are not overwritten.
+ */
+@Service @RequiredArgsConstructor
+public class CustomerLedgerServiceImpl implements CustomerLedgerService {
+  private static final Set<String> SORTABLE = Set.of("outstandingBalance", "lifetimeSpend", "billCount", "lastPurchaseDate");
+  private static final double EPSILON = 0.005;
+  private static final int MAX_REPORTED = 1000;
+
+  private static final String REBUILD_SQL = """
+      SELECT c.customer_id,
+             COALESCE(SUM(CASE WHEN b.payment_status = 'PENDING' THEN b.total_amount END), 0)    AS outstanding,
+             COALESCE(SUM(CASE WHEN b.payment_status <> 'CANCELLED' THEN b.total_amount END), 0) AS spend,
+             COUNT(CASE WHEN b.payment_status <> 'CANCELLED' THEN 1 END)                         AS bills,
+             MAX(CASE WHEN b.payment_status <> 'CANCELLED' THEN b.bill_date END)                 AS last_purchase
+        FROM customers c LEFT JOIN bills b ON b.customer_id = c.customer_id
+       GROUP BY c.customer_id
+      """;
+
+  private static final String REPAIR_SQL =
+      "UPDATE customer_ledgers l JOIN (" + REBUILD_SQL + ") x ON x.customer_id = l.customer_id"
+    + " SET l.outstanding_balance = x.outstanding, l.lifetime_spend = x.spend,"
+    + "     l.bill_count = x.bills, l.last_purchase_date = x.last_purchase"
+    + " WHERE ABS(l.outstanding_balance - x.outstanding) >= " + EPSILON
+    + "    OR ABS(l.lifetime_spend - x.spend) >= " + EPSILON
+    + "    OR l.bill_count <> x.bills OR NOT (l.last_purchase_date <=> x.last_purchase)";
+
+  private static final String INSERT_MISSING_SQL =
+      "INSERT INTO customer_ledgers (customer_id, outstanding_balance, lifetime_spend, bill_count, last_purchase_date)"
+    + " SELECT x.customer_id, x.outstanding, x.spend, x.bills, x.last_purchase FROM (" + REBUILD_SQL + ") x"
+    + " WHERE NOT EXISTS (SELECT 1 FROM customer_ledgers l WHERE l.customer_id = x.customer_id)";
+
+  private final CustomerLedgerRepository repo;
+  private final JdbcTemplate jdbc;
+
+  @Override @Transactional
+  public void open(Long customerId){ repo.save(CustomerLedger.empty(customerId)); }
+
+  @Override @Transactional
+  public void recordBill(Long customerId, double total, LocalDate billDate){
+    repo.addBill(customerId, total, billDate);
+  }
+
+  @Override @Transactional
+  public void recordPayment(Long customerId, double total){
+    // every PENDING bill went through recordBill, so the row exists; verify() repairs anything else
+    repo.addPayment(customerId, total);
+  }
+
+  @Override public CustomerLedger get(Long customerId){
+    return repo.findById(customerId).orElseGet(() -> CustomerLedger.empty(customerId));
+  }
+
+  @Override public Map<Long, CustomerLedger> getAll(Collection<Long> customerIds){
+    return repo.findAllById(customerIds).stream()
+        .collect(Collectors.toMap(CustomerLedger::getCustomerId, Function.identity()));
+  }
+
+  @Override public List<CustomerLedger> topDebtors(String sortBy, int limit){
+    if(!SORTABLE.contains(sortBy)) throw new IllegalArgumentException("Cannot sort by " + sortBy);
+    var sort = Sort.by(Sort.Direction.DESC, sortBy).and(Sort.by("customerId"));
+    return repo.findDebtors(PageRequest.of(0, Math.max(1, Math.min(limit, 500)), sort));
+  }
+
+  @Override @Transactional
+  public LedgerCheckResponse verify(boolean repair){
+    var stored = repo.findAll().stream()
+        .collect(Collectors.toMap(CustomerLedger::getCustomerId, Function.identity()));
+    var mismatches = new ArrayList<LedgerMismatch>();
+    int[] checked = {0}, drifted = {0};
+    jdbc.query(REBUILD_SQL, rs -> {
+      checked[0]++;
+      Date last = rs.getDate("last_purchase");
+      var expected = new CustomerLedger(rs.getLong("customer_id"), rs.getDouble("outstanding"),
+          rs.getDouble("spend"), rs.getInt("bills"), last != null ? last.toLocalDate() : null);
+      var s = stored.get(expected.getCustomerId());
+      if(s != null && same(s, expected)) return;
+      if(mismatches.size() < MAX_REPORTED) mismatches.add(new LedgerMismatch(expected.getCustomerId(),
+          s != null ? s.getOutstandingBalance() : null, expected.getOutstandingBalance(),
+          s != null ? s.getLifetimeSpend() : null, expected.getLifetimeSpend(),
+          s != null ? s.getBillCount() : null, expected.getBillCount(),
+          s != null ? s.getLastPurchaseDate() : null, expected.getLastPurchaseDate()));
+      drifted[0]++;
+    });
+    if(repair && drifted[0] > 0){
+      jdbc.update(REPAIR_SQL);
+      jdbc.update(INSERT_MISSING_SQL);
+    }
+    return new LedgerCheckResponse(checked[0], drifted[0], repair, mismatches);
+  }
+
+  private static boolean same(CustomerLedger a, CustomerLedger b){
+    return Math.abs(a.getOutstandingBalance() - b.getOutstandingBalance()) < EPSILON
+        && Math.abs(a.getLifetimeSpend() - b.getLifetimeSpend()) < EPSILON
+        && a.getBillCount().equals(b.getBillCount())
+        && Objects.equals(a.getLastPurchaseDate(), b.getLastPurchaseDate());
+  }
+}
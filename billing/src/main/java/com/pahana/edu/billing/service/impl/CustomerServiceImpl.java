@@ -1,48 +1,101 @@
 // service/impl/CustomerServiceImpl.java
 package com.pahana.edu.billing.service.impl;
 
+import com.pahana.edu.billing.audit.AuditEventType;
+import com.pahana.edu.billing.audit.AuditLog;
 import com.pahana.edu.billing.domain.dto.customer.*;
+import com.pahana.edu.billing.domain.dto.ledger.LedgerCheckResponse;
 import com.pahana.edu.billing.domain.entity.Customer;
+import com.pahana.edu.billing.domain.entity.CustomerLedger;
+import com.pahana.edu.billing.exception.ConflictException;
 import com.pahana.edu.billing.exception.NotFoundException;
 import com.pahana.edu.billing.repository.CustomerRepository;
+import com.pahana.edu.billing.service.interfaces.CustomerLedgerService;
 import com.pahana.edu.billing.service.interfaces.CustomerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service @RequiredArgsConstructor
 public class CustomerServiceImpl implements CustomerService {
   private final CustomerRepository repo;
+  private final AuditLog audit;
+  private final CustomerLedgerService ledger;
 
-  @Override public CustomerResponse create(CustomerCreateRequest r){
+  /**
+   * A soft-deleted customer still holds its account number, so re-creating that account
+   * restores the row (with its bill history and ledger) instead of tripping the unique key.
+   */
+  @Override @Transactional public CustomerResponse create(CustomerCreateRequest r){
+    var existing = repo.findByAccountNumber(r.accountNumber()).orElse(null);
+    if(existing != null && !existing.isDeleted()) throw new ConflictException("Account number already exists");
+    if(existing != null){
+      existing.setDeleted(false);
+      existing.setDeletedAt(null);
+      apply(existing, r);
+      repo.save(existing);
+      audit.record(AuditEventType.CUSTOMER_CREATED, existing.getCustomerId(), 0, 0);
+      return toDto(existing, ledger.get(existing.getCustomerId()));
+    }
     var c = Customer.builder()
       .accountNumber(r.accountNumber()).customerName(r.customerName())
       .address(r.address()).telephoneNumber(r.telephoneNumber())
       .registrationDate(r.registrationDate()).status(r.status()).build();
     repo.save(c);
-    return toDto(c);
+    ledger.open(c.getCustomerId());
+    audit.record(AuditEventType.CUSTOMER_CREATED, c.getCustomerId(), 0, 0);
+    return toDto(c, CustomerLedger.empty(c.getCustomerId()));
   }
   @Override public CustomerResponse get(Long id){
-    return toDto(repo.findById(id).orElseThrow(() -> new NotFoundException("Customer not found")));
+    var c = repo.findByCustomerIdAndDeletedFalse(id).orElseThrow(() -> new NotFoundException("Customer not found"));
+    return toDto(c, ledger.get(id));
   }
   @Override public List<CustomerResponse> list(){
-    return repo.findAll().stream().map(this::toDto).toList();
+    var customers = repo.findAllByDeletedFalse();
+    var ledgers = ledger.getAll(customers.stream().map(Customer::getCustomerId).toList());
+    return customers.stream().map(c -> toDto(c, ledgers.get(c.getCustomerId()))).toList();
   }
-  @Override public CustomerResponse update(Long id, CustomerCreateRequest r){
-    var c = repo.findById(id).orElseThrow(() -> new NotFoundException("Customer not found"));
+  @Override @Transactional public CustomerResponse update(Long id, CustomerCreateRequest r){
+    var c = repo.findByCustomerIdAndDeletedFalse(id).orElseThrow(() -> new NotFoundException("Customer not found"));
+    if(repo.findByAccountNumber(r.accountNumber()).filter(o -> !o.getCustomerId().equals(id)).isPresent())
+      throw new ConflictException("Account number already exists");
+    apply(c, r);
+    repo.save(c);
+    audit.record(AuditEventType.CUSTOMER_UPDATED, id, 0, 0);
+    return toDto(c, ledger.get(id));
+  }
+  /** Constant-time flag flip; the bill history is removed later by SoftDeletePurgeJob. */
+  @Override @Transactional public void delete(Long id){
+    if(repo.softDelete(id, Instant.now()) == 0) throw new NotFoundException("Customer not found");
+    audit.record(AuditEventType.CUSTOMER_DELETED, id, 0, 0);
+  }
+
+  @Override public List<CustomerResponse> topDebtors(String sortBy, int limit){
+    var top = ledger.topDebtors(sortBy, limit);
+    Map<Long, Customer> byId = repo.findAllById(top.stream().map(CustomerLedger::getCustomerId).toList())
+        .stream().collect(Collectors.toMap(Customer::getCustomerId, Function.identity()));
+    return top.stream().map(l -> toDto(byId.get(l.getCustomerId()), l)).toList();
+  }
+  @Override public LedgerCheckResponse verifyLedger(boolean repair){ return ledger.verify(repair); }
+
+  private static void apply(Customer c, CustomerCreateRequest r){
     c.setAccountNumber(r.accountNumber());
     c.setCustomerName(r.customerName());
     c.setAddress(r.address());
     c.setTelephoneNumber(r.telephoneNumber());
     c.setRegistrationDate(r.registrationDate());
     c.setStatus(r.status());
-    repo.save(c);
-    return toDto(c);
   }
-  @Override public void delete(Long id){ repo.deleteById(id); }
 
-  private CustomerResponse toDto(Customer c){
+  private CustomerResponse toDto(Customer c, CustomerLedger l){
+    if(l == null) l = CustomerLedger.empty(c.getCustomerId());
     return new CustomerResponse(c.getCustomerId(), c.getAccountNumber(), c.getCustomerName(),
-      c.getAddress(), c.getTelephoneNumber(), c.getRegistrationDate(), c.getStatus());
+      c.getAddress(), c.getTelephoneNumber(), c.getRegistrationDate(), c.getStatus(),
+      l.getOutstandingBalance(), l.getLifetimeSpend(), l.getBillCount(), l.getLastPurchaseDate());
   }
 }
@@ -1,38 +1,190 @@
 // service/impl/ItemServiceImpl.java
 package com.pahana.edu.billing.service.impl;
 
+import com.pahana.edu.billing.audit.AuditEventType;
+import com.pahana.edu.billing.audit.AuditLog;
 import com.pahana.edu.billing.domain.dto.item.*;
 import com.pahana.edu.billing.domain.entity.Item;
+import com.pahana.edu.billing.exception.ConflictException;
 import com.pahana.edu.billing.exception.NotFoundException;
 import com.pahana.edu.billing.repository.ItemRepository;
 import com.pahana.edu.billing.service.interfaces.ItemService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.*;
 
 @Service @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
   private final ItemRepository repo;
+  private final AuditLog audit;
+  private final JdbcTemplate jdbc;
+  private final TransactionTemplate tx;
 
-  @Override public ItemResponse create(ItemCreateRequest r){
+  @Value("${app.items.bulk-chunk-size:500}")
+  private int chunkSize;
+
+  private static final String BULK_UPDATE_SQL =
+      "UPDATE items SET stock_quantity = stock_quantity + ?, price = COALESCE(?, price) WHERE item_id = ? AND deleted = FALSE";
+
+  private record Row(int row, ItemDeltaRequest d) {}
+
+  /**
+   * Soft-deleted items keep their name (old bill lines still show it), so re-creating an item
+   * with that name restores the row instead of tripping the unique key.
+   */
+  @Override @Transactional public ItemResponse create(ItemCreateRequest r){
+    var existing = repo.findByItemName(r.itemName()).orElse(null);
+    if(existing != null && !existing.isDeleted()) throw new ConflictException("Item name already exists");
+    if(existing != null){
+      existing.setDeleted(false);
+      existing.setDeletedAt(null);
+      existing.setCategory(r.category());
+      existing.setPrice(r.price());
+      existing.setStockQuantity(r.stockQuantity());
+      repo.save(existing);
+      return toDto(existing);
+    }
     var i = Item.builder().itemName(r.itemName()).category(r.category())
                .price(r.price()).stockQuantity(r.stockQuantity()).build();
     repo.save(i);
     return toDto(i);
   }
   @Override public ItemResponse get(Long id){
-    return toDto(repo.findById(id).orElseThrow(() -> new NotFoundException("Item not found")));
+    return toDto(repo.findByItemIdAndDeletedFalse(id).orElseThrow(() -> new NotFoundException("Item not found")));
   }
-  @Override public List<ItemResponse> list(){ return repo.findAll().stream().map(this::toDto).toList(); }
-  @Override public ItemResponse update(Long id, ItemUpdateRequest r){
-    var i = repo.findById(id).orElseThrow(() -> new NotFoundException("Item not found"));
+  @Override public List<ItemResponse> list(){ return repo.findAllByDeletedFalse().stream().map(this::toDto).toList(); }
+  @Override @Transactional public ItemResponse update(Long id, ItemUpdateRequest r){
+    var i = repo.findByItemIdAndDeletedFalse(id).orElseThrow(() -> new NotFoundException("Item not found"));
+    if(r.itemName()!=null && repo.findByItemName(r.itemName()).filter(o -> !o.getItemId().equals(id)).isPresent())
+      throw new ConflictException("Item name already exists");
     if(r.itemName()!=null) i.setItemName(r.itemName());
     if(r.category()!=null) i.setCategory(r.category());
+    Double oldPrice = i.getPrice();
     if(r.price()!=null) i.setPrice(r.price());
     if(r.stockQuantity()!=null) i.setStockQuantity(r.stockQuantity());
-    repo.save(i); return toDto(i);
+    repo.save(i);
+    if(r.price()!=null && !r.price().equals(oldPrice))
+      audit.record(AuditEventType.ITEM_PRICE_CHANGED, id, r.price(), oldPrice);
+    return toDto(i);
+  }
+  /** Soft delete: bill lines may still reference the item, so the row is purged only once they are gone. */
+  @Override @Transactional public void delete(Long id){
+    if(repo.softDelete(id, Instant.now()) == 0) throw new NotFoundException("Item not found");
+  }
+
+  @Override public ItemBulkUpdateResponse bulkUpdate(List<ItemDeltaRequest> deltas){
+    var rows = new ArrayList<Row>(deltas.size());
+    for(int i = 0; i < deltas.size(); i++) rows.add(new Row(i + 1, deltas.get(i)));
+    return applyBulk(rows, new ArrayList<>());
+  }
+
+  @Override public ItemBulkUpdateResponse bulkUpdateCsv(Reader csv) throws IOException {
+    var rows = new ArrayList<Row>();
+    var results = new ArrayList<ItemBulkRowResult>();
+    var in = new BufferedReader(csv);
+    String line;
+    boolean first = true;
+    for(int n = 1; (line = in.readLine()) != null; n++){
+      if(n == 1 && line.startsWith("\uFEFF")) line = line.substring(1);           // BOM from Excel exports
+      if(line.isBlank()) continue;
+      String[] cells = line.split(",", -1);
+      if(first){
+        first = false;
+        if(cells[0].trim().equalsIgnoreCase("itemId")) continue;                  // header
+      }
+      try {
+        if(cells.length != 3) throw new IllegalArgumentException("expected itemId,stockIncrement,newPrice");
+        rows.add(new Row(n, new ItemDeltaRequest(Long.valueOf(cells[0].trim()),
+            cells[1].isBlank()? null: Integer.valueOf(cells[1].trim()),
+            cells[2].isBlank()? null: Double.valueOf(cells[2].trim()))));
+      } catch(IllegalArgumentException e){
+        results.add(new ItemBulkRowResult(n, null, false, "Unparseable line: " + e.getMessage()));
+      }
+    }
+    return applyBulk(rows, results);
+  }
+
+  /**
+   * Validates every row against one snapshot of the referenced items, then applies the valid ones
+   * as JDBC batches of {@code app.items.bulk-chunk-size}, one transaction per chunk. Stock is
+   * incremented in SQL so concurrent checkouts are not overwritten; a row whose UPDATE matched
+   * nothing (item deleted after validation) is reported as rejected.
+   */
+  private ItemBulkUpdateResponse applyBulk(List<Row> all, List<ItemBulkRowResult> results){
+    var rows = new ArrayList<Row>(all.size());
+    for(var r : all){
+      if(r.d() == null) results.add(new ItemBulkRowResult(r.row(), null, false, "Empty row"));
+      else rows.add(r);
+    }
+    var ids = new LinkedHashSet<Long>();
+    for(var r : rows) if(r.d().itemId() != null) ids.add(r.d().itemId());
+    var current = new HashMap<Long, ItemRepository.PriceStock>(ids.size() * 2);
+    var idList = new ArrayList<>(ids);
+    for(int i = 0; i < idList.size(); i += chunkSize)
+      for(var ps : repo.findPriceStock(idList.subList(i, Math.min(i + chunkSize, idList.size()))))
+        current.put(ps.getItemId(), ps);
+
+    var valid = new ArrayList<Row>(rows.size());
+    var seen = new HashSet<Long>(ids.size() * 2);
+    for(var r : rows){
+      String error = validate(r.d(), current.get(r.d().itemId()), seen);
+      if(error != null) results.add(new ItemBulkRowResult(r.row(), r.d().itemId(), false, error));
+      else valid.add(r);
+    }
+
+    for(int i = 0; i < valid.size(); i += chunkSize){
+      var chunk = valid.subList(i, Math.min(i + chunkSize, valid.size()));
+      int[][] counts;
+      try {
+        counts = tx.execute(s -> jdbc.batchUpdate(BULK_UPDATE_SQL, chunk, chunk.size(), (ps, r) -> {
+          ps.setInt(1, r.d().stockIncrement()!=null? r.d().stockIncrement(): 0);
+          if(r.d().newPrice()!=null) ps.setDouble(2, r.d().newPrice()); else ps.setNull(2, Types.DOUBLE);
+          ps.setLong(3, r.d().itemId());
+        }));
+      } catch(DataAccessException e){
+        for(var r : chunk) results.add(new ItemBulkRowResult(r.row(), r.d().itemId(), false,
+            "Chunk rolled back: " + e.getMostSpecificCause().getMessage()));
+        continue;
+      }
+      for(int k = 0; k < chunk.size(); k++){
+        var r = chunk.get(k);
+        if(counts[0][k] == 0){    // SUCCESS_NO_INFO (-2) still counts as applied
+          results.add(new ItemBulkRowResult(r.row(), r.d().itemId(), false, "Item not found"));
+          continue;
+        }
+        results.add(new ItemBulkRowResult(r.row(), r.d().itemId(), true, null));
+        var before = current.get(r.d().itemId());
+        if(r.d().newPrice()!=null && !r.d().newPrice().equals(before.getPrice()))
+          audit.record(AuditEventType.ITEM_PRICE_CHANGED, r.d().itemId(), r.d().newPrice(), before.getPrice());
+      }
+    }
+
+    results.sort(Comparator.comparingInt(ItemBulkRowResult::row));
+    int applied = (int) results.stream().filter(ItemBulkRowResult::applied).count();
+    return new ItemBulkUpdateResponse(applied, results.size() - applied, results);
+  }
+
+  private static String validate(ItemDeltaRequest d, ItemRepository.PriceStock current, Set<Long> seen){
+    if(d.itemId() == null) return "itemId is required";
+    if(d.stockIncrement() == null && d.newPrice() == null) return "Nothing to update";
+    if(d.stockIncrement() != null && d.stockIncrement() < 0) return "stockIncrement must not be negative";
+    if(d.newPrice() != null && !(d.newPrice() > 0)) return "newPrice must be positive";
+    if(current == null) return "Item not found";
+    if(d.stockIncrement() != null && (long) current.getStockQuantity() + d.stockIncrement() > Integer.MAX_VALUE)
+      return "Stock would overflow";
+    if(!seen.add(d.itemId())) return "Duplicate itemId in this upload";
+    return null;
   }
-  @Override public void delete(Long id){ repo.deleteById(id); }
 
   private ItemResponse toDto(Item i){
     return new ItemResponse(i.getItemId(), i.getItemName(), i.getCategory(), i.getPrice(), i.getStockQuantity());
@@ -0,0 +1,88 @@
+// service/impl/SoftDeletePurgeJob.java
+package com.pahana.edu.billing.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Physically removes soft-deleted customers and items once they are older than
+ * {@code app.purge.retention-days}. Everything is set-based and bounded: each transaction
+ * touches at most {@code app.purge.chunk-size} bills (plus their lines) or items, so a
+ * customer with years of history is drained over several short transactions instead of one
+ * huge cascade.
+ */
+@Slf4j
+@Component @RequiredArgsConstructor
+public class SoftDeletePurgeJob {
+  private final JdbcTemplate jdbc;
+  private final NamedParameterJdbcTemplate named;
+  private final TransactionTemplate tx;
+
+  @Value("${app.purge.retention-days:30}") private int retentionDays;
+  @Value("${app.purge.chunk-size:500}") private int chunkSize;
+
+  @Scheduled(cron = "${app.purge.cron:0 30 2 * * *}")
+  public void purge(){
+    var cutoff = Timestamp.from(Instant.now().minus(Duration.ofDays(retentionDays)));
+    int customers = purgeCustomers(cutoff);
+    int items = purgeItems(cutoff);
+    if(customers > 0 || items > 0) log.info("Purged {} customers and {} items deleted before {}", customers, items, cutoff);
+  }
+
+  private int purgeCustomers(Timestamp cutoff){
+    int purged = 0;
+    List<Long> ids;
+    do {
+      ids = jdbc.queryForList(
+          "SELECT customer_id FROM customers WHERE deleted = TRUE AND deleted_at < ? LIMIT ?",
+          Long.class, cutoff, chunkSize);
+      for(Long id : ids){
+        while(purgeBillChunk(id) > 0) { }
+        tx.executeWithoutResult(s -> {
+          jdbc.update("DELETE l FROM customer_ledgers l JOIN customers c ON c.customer_id = l.customer_id"
+              + " WHERE l.customer_id = ? AND c.deleted = TRUE", id);
+          jdbc.update("DELETE FROM customers WHERE customer_id = ? AND deleted = TRUE", id);
+        });
+        purged++;
+      }
+    } while(ids.size() == chunkSize);
+    return purged;
+  }
+
+  /** Deletes up to chunkSize bills of one customer together with their lines. */
+  private int purgeBillChunk(Long customerId){
+    return tx.execute(s -> {
+      // re-check the flag each chunk: the customer may have been restored meanwhile
+      var billIds = jdbc.queryForList("SELECT b.bill_id FROM bills b JOIN customers c ON c.customer_id = b.customer_id"
+          + " WHERE c.customer_id = ? AND c.deleted = TRUE LIMIT ?", Long.class, customerId, chunkSize);
+      if(billIds.isEmpty()) return 0;
+      var p = new MapSqlParameterSource("ids", billIds);
+      named.update("DELETE FROM bill_items WHERE bill_id IN (:ids)", p);
+      return named.update("DELETE FROM bills WHERE bill_id IN (:ids)", p);
+    });
+  }
+
+  /** Items still referenced by a bill line stay soft-deleted until that bill is purged. */
+  private int purgeItems(Timestamp cutoff){
+    int purged = 0, n;
+    do {
+      n = tx.execute(s -> jdbc.update(
+          "DELETE FROM items WHERE deleted = TRUE AND deleted_at < ?"
+        + " AND NOT EXISTS (SELECT 1 FROM bill_items bi WHERE bi.item_id = items.item_id) LIMIT ?",
+          cutoff, chunkSize));
+      purged += n;
+    } while(n == chunkSize);
+    return purged;
+  }
+}
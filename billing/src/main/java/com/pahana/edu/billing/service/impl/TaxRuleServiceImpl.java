@@ -0,0 +1,40 @@
+// service/impl/TaxRuleServiceImpl.java
+package com.pahana.edu.billing.service.impl;
+
+import com.pahana.edu.billing.domain.dto.tax.*;
+import com.pahana.edu.billing.domain.entity.TaxRule;
+import com.pahana.edu.billing.exception.NotFoundException;
+import com.pahana.edu.billing.repository.TaxRuleRepository;
+import com.pahana.edu.billing.service.interfaces.TaxRuleService;
+import com.pahana.edu.billing.tax.TaxEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import java.util.List;
+
+@Service @RequiredArgsConstructor
+public class TaxRuleServiceImpl implements TaxRuleService {
+  private final TaxRuleRepository repo;
+  private final TaxEngine engine;
+
+  @Override public TaxRuleResponse create(TaxRuleRequest r){
+    var rule = TaxRule.builder().category(r.category()).customerStatus(r.customerStatus())
+        .ratePercent(r.ratePercent()).effectiveFrom(r.effectiveFrom()).build();
+    repo.save(rule);
+    engine.reload();
+    return toDto(rule);
+  }
+  @Override public List<TaxRuleResponse> list(){
+    return repo.findAll(Sort.by("category", "customerStatus", "effectiveFrom")).stream().map(this::toDto).toList();
+  }
+  @Override public void delete(Long id){
+    if(!repo.existsById(id)) throw new NotFoundException("Tax rule not found");
+    repo.deleteById(id);
+    engine.reload();
+  }
+  @Override public void reload(){ engine.reload(); }
+
+  private TaxRuleResponse toDto(TaxRule t){
+    return new TaxRuleResponse(t.getRuleId(), t.getCategory(), t.getCustomerStatus(), t.getRatePercent(), t.getEffectiveFrom());
+  }
+}
@@ -0,0 +1,17 @@
+// service/interfaces/CustomerLedgerService.java
+package com.pahana.edu.billing.service.interfaces;
+import com.pahana.edu.billing.domain.dto.ledger.LedgerCheckResponse;
+import com.pahana.edu.billing.domain.entity.CustomerLedger;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+public interface CustomerLedgerService {
+  void open(Long customerId);
+  void recordBill(Long customerId, double total, LocalDate billDate);
+  void recordPayment(Long customerId, double total);
+  CustomerLedger get(Long customerId);
+  Map<Long, CustomerLedger> getAll(Collection<Long> customerIds);
+  List<CustomerLedger> topDebtors(String sortBy, int limit);
+  LedgerCheckResponse verify(boolean repair);
+}
@@ -1,6 +1,7 @@
 // service/interfaces/CustomerService.java
 package com.pahana.edu.billing.service.interfaces;
 import com.pahana.edu.billing.domain.dto.customer.*;
+import com.pahana.edu.billing.domain.dto.ledger.LedgerCheckResponse;
 import java.util.List;
 public interface CustomerService {
   CustomerResponse create(CustomerCreateRequest req);
@@ -8,4 +9,6 @@ public interface CustomerService {
   List<CustomerResponse> list();
   CustomerResponse update(Long id, CustomerCreateRequest req);
   void delete(Long id);
+  List<CustomerResponse> topDebtors(String sortBy, int limit);
+  LedgerCheckResponse verifyLedger(boolean repair);
 }
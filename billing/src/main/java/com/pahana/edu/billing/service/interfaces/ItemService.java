@@ -1,6 +1,8 @@
 // service/interfaces/ItemService.java
 package com.pahana.edu.billing.service.interfaces;
 import com.pahana.edu.billing.domain.dto.item.*;
+import java.io.IOException;
+import java.io.Reader;
 import java.util.List;
 public interface ItemService {
   ItemResponse create(ItemCreateRequest req);
@@ -8,4 +10,6 @@ public interface ItemService {
   List<ItemResponse> list();
   ItemResponse update(Long id, ItemUpdateRequest req);
   void delete(Long id);
+  ItemBulkUpdateResponse bulkUpdate(List<ItemDeltaRequest> rows);
+  ItemBulkUpdateResponse bulkUpdateCsv(Reader csv) throws IOException;
 }
@@ -0,0 +1,10 @@
+// service/interfaces/TaxRuleService.java
+package com.pahana.edu.billing.service.interfaces;
+import com.pahana.edu.billing.domain.dto.tax.*;
+import java.util.List;
+public interface TaxRuleService {
+  TaxRuleResponse create(TaxRuleRequest req);
+  List<TaxRuleResponse> list();
+  void delete(Long id);
+  void reload();
+}
@@ -0,0 +1,30 @@
+// tax/TaxEngine.java
+package com.pahana.edu.billing.tax;
+
+import com.pahana.edu.billing.repository.TaxRuleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the current {@link TaxTable}. {@link #reload()} compiles a fresh table from the
+ * {@code tax_rules} rows and publishes it with a single volatile write, so pricing never sees a
+ * half-built table; callers pricing one bill should take {@link #table()} once and reuse it.
+ */
+@Component @RequiredArgsConstructor
+public class TaxEngine {
+  private final TaxRuleRepository rules;
+
+  @Value("${app.billing.tax-percent:0}")
+  private double defaultTaxPercent;
+
+  private volatile TaxTable table;
+
+  @PostConstruct
+  public void reload(){
+    table = TaxTable.compile(rules.findAll(), defaultTaxPercent);
+  }
+
+  public TaxTable table(){ return table; }
+}
@@ -0,0 +1,103 @@
+// tax/TaxTable.java
+package com.pahana.edu.billing.tax;
+
+import com.pahana.edu.billing.domain.entity.TaxRule;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Immutable, flattened form of the tax rules. Every (customer status, category) pair, wildcards
+ * included, owns a slice of two parallel arrays holding the dates its effective rate changes and
+ * the rate from that date on. Precedence is resolved at compile time, most specific first:
+ * status+category, status only, category only, default. A lookup is two hash probes and a binary
+ * search over a handful of dates, and allocates nothing.
+ * <p>
+ * Keys match exactly (case-sensitive); unknown statuses and categories fall back to the wildcard.
+ */
+public final class TaxTable {
+  private static final int ANY = 0;
+
+  private final Map<String, Integer> statusIndex;
+  private final Map<String, Integer> categoryIndex;
+  private final int categories;
+  private final int[] sliceStart;     // per slot; sliceStart[slot + 1] is the end
+  private final int[] fromDay;        // epoch day a rate starts applying
+  private final double[] ratePercent;
+
+  private TaxTable(Map<String, Integer> statusIndex, Map<String, Integer> categoryIndex,
+                   int[] sliceStart, int[] fromDay, double[] ratePercent){
+    this.statusIndex = statusIndex;
+    this.categoryIndex = categoryIndex;
+    this.categories = categoryIndex.size() + 1;
+    this.sliceStart = sliceStart;
+    this.fromDay = fromDay;
+    this.ratePercent = ratePercent;
+  }
+
+  public double ratePercent(String customerStatus, String category, LocalDate date){
+    Integer s = customerStatus != null ? statusIndex.get(customerStatus) : null;
+    Integer c = category != null ? categoryIndex.get(category) : null;
+    int slot = (s != null ? s : ANY) * categories + (c != null ? c : ANY);
+    long day = date.toEpochDay();
+    int lo = sliceStart[slot], hi = sliceStart[slot + 1] - 1;   // fromDay[lo] is always MIN_VALUE
+    while(lo < hi){
+      int mid = (lo + hi + 1) >>> 1;
+      if(fromDay[mid] <= day) lo = mid; else hi = mid - 1;
+    }
+    return ratePercent[lo];
+  }
+
+  /** @param defaultPercent rate used wherever no rule applies (the old global app.billing.tax-percent) */
+  public static TaxTable compile(Collection<TaxRule> rules, double defaultPercent){
+    var statusIndex = new HashMap<String, Integer>();
+    var categoryIndex = new HashMap<String, Integer>();
+    for(var r : rules){
+      if(r.getCustomerStatus() != null) statusIndex.putIfAbsent(r.getCustomerStatus(), statusIndex.size() + 1);
+      if(r.getCategory() != null) categoryIndex.putIfAbsent(r.getCategory(), categoryIndex.size() + 1);
+    }
+    int statuses = statusIndex.size() + 1, categories = categoryIndex.size() + 1;
+
+    // per-scope timelines; ties on the same date go to the later rule
+    @SuppressWarnings("unchecked")
+    TreeMap<Integer, Double>[] chains = new TreeMap[statuses * categories];
+    chains[ANY] = new TreeMap<>(Map.of(Integer.MIN_VALUE, defaultPercent));
+    var ordered = new ArrayList<>(rules);
+    ordered.sort(Comparator.comparing(TaxRule::getRuleId, Comparator.nullsFirst(Comparator.naturalOrder())));
+    for(var r : ordered){
+      int s = r.getCustomerStatus() != null ? statusIndex.get(r.getCustomerStatus()) : ANY;
+      int c = r.getCategory() != null ? categoryIndex.get(r.getCategory()) : ANY;
+      int key = s * categories + c;
+      if(chains[key] == null) chains[key] = new TreeMap<>();
+      chains[key].put(Math.toIntExact(r.getEffectiveFrom().toEpochDay()), r.getRatePercent());
+    }
+
+    int[] sliceStart = new int[statuses * categories + 1];
+    var days = new ArrayList<Integer>();
+    var rates = new ArrayList<Double>();
+    for(int s = 0; s < statuses; s++){
+      for(int c = 0; c < categories; c++){
+        int slot = s * categories + c;
+        sliceStart[slot] = days.size();
+        var precedence = new ArrayList<TreeMap<Integer, Double>>(4);
+        for(int key : new LinkedHashSet<>(List.of(slot, s * categories, c, ANY)))
+          if(chains[key] != null) precedence.add(chains[key]);
+        var changes = new TreeSet<Integer>();
+        precedence.forEach(ch -> changes.addAll(ch.keySet()));
+        for(int day : changes){
+          double rate = 0;
+          for(var ch : precedence){
+            var e = ch.floorEntry(day);
+            if(e != null){ rate = e.getValue(); break; }
+          }
+          if(days.size() > sliceStart[slot] && rates.get(rates.size() - 1) == rate) continue;
+          days.add(day);
+          rates.add(rate);
+        }
+      }
+    }
+    sliceStart[statuses * categories] = days.size();
+    return new TaxTable(Map.copyOf(statusIndex), Map.copyOf(categoryIndex), sliceStart,
+        days.stream().mapToInt(Integer::intValue).toArray(),
+        rates.stream().mapToDouble(Double::doubleValue).toArray());
+  }
+}
@@ -0,0 +1,69 @@
+-- V1: schema as previously generated by ddl-auto=update.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE users (
+  user_id       BIGINT       NOT NULL AUTO_INCREMENT,
+  username      VARCHAR(50)  NOT NULL,
+  password      VARCHAR(255) NOT NULL,
+  email         VARCHAR(255) NOT NULL,
+  user_type     VARCHAR(20)  NOT NULL,
+  created_date  DATETIME(6)  NOT NULL,
+  PRIMARY KEY (user_id),
+  CONSTRAINT uk_users_username UNIQUE (username),
+  CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE=InnoDB;
+
+CREATE TABLE admins (
+  admin_id  BIGINT NOT NULL AUTO_INCREMENT,
+  user_id   BIGINT NOT NULL,
+  PRIMARY KEY (admin_id),
+  CONSTRAINT uk_admins_user UNIQUE (user_id),
+  CONSTRAINT fk_admins_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE customers (
+  customer_id        BIGINT       NOT NULL AUTO_INCREMENT,
+  account_number     VARCHAR(30)  NOT NULL,
+  customer_name      VARCHAR(120) NOT NULL,
+  address            VARCHAR(255),
+  telephone_number   VARCHAR(255),
+  registration_date  DATE,
+  status             VARCHAR(255),
+  PRIMARY KEY (customer_id),
+  CONSTRAINT uk_customers_account_number UNIQUE (account_number)
+) ENGINE=InnoDB;
+
+CREATE TABLE items (
+  item_id         BIGINT       NOT NULL AUTO_INCREMENT,
+  item_name       VARCHAR(120) NOT NULL,
+  category        VARCHAR(60),
+  price           DOUBLE       NOT NULL,
+  stock_quantity  INT          NOT NULL,
+  PRIMARY KEY (item_id),
+  CONSTRAINT uk_items_item_name UNIQUE (item_name)
+) ENGINE=InnoDB;
+
+CREATE TABLE bills (
+  bill_id         BIGINT      NOT NULL AUTO_INCREMENT,
+  bill_number     VARCHAR(30) NOT NULL,
+  customer_id     BIGINT      NOT NULL,
+  bill_date       DATE,
+  total_amount    DOUBLE      NOT NULL,
+  tax_amount      DOUBLE      NOT NULL,
+  payment_status  VARCHAR(20) NOT NULL,
+  PRIMARY KEY (bill_id),
+  CONSTRAINT uk_bills_bill_number UNIQUE (bill_number),
+  CONSTRAINT fk_bills_customer FOREIGN KEY (customer_id) REFERENCES customers (customer_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE bill_items (
+  bill_item_id  BIGINT NOT NULL AUTO_INCREMENT,
+  bill_id       BIGINT NOT NULL,
+  item_id       BIGINT NOT NULL,
+  quantity      INT    NOT NULL,
+  unit_price    DOUBLE NOT NULL,
+  subtotal      DOUBLE NOT NULL,
+  PRIMARY KEY (bill_item_id),
+  CONSTRAINT fk_bill_items_bill FOREIGN KEY (bill_id) REFERENCES bills (bill_id),
+  CONSTRAINT fk_bill_items_item FOREIGN KEY (item_id) REFERENCES items (item_id)
+) ENGINE=InnoDB;
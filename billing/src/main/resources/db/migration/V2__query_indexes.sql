@@ -0,0 +1,8 @@
+-- V2: indexes for the access paths the services actually use.
+-- Applied on top of baselined databases too, so nothing here may assume V1 ran.
+
+-- listByCustomer / outstanding-balance lookups: customer first, then status.
+CREATE INDEX idx_bills_customer_status ON bills (customer_id, payment_status);
+-- day-range reporting and receipt batches.
+CREATE INDEX idx_bills_bill_date ON bills (bill_date);
+CREATE INDEX idx_items_category ON items (category);
@@ -0,0 +1,13 @@
+-- V3: soft deletion for customers and items; rows are removed later by SoftDeletePurgeJob.
+
+ALTER TABLE customers
+  ADD COLUMN deleted     BOOLEAN     NOT NULL DEFAULT FALSE,
+  ADD COLUMN deleted_at  DATETIME(6) NULL;
+
+ALTER TABLE items
+  ADD COLUMN deleted     BOOLEAN     NOT NULL DEFAULT FALSE,
+  ADD COLUMN deleted_at  DATETIME(6) NULL;
+
+-- purge scans
+CREATE INDEX idx_customers_deleted ON customers (deleted, deleted_at);
+CREATE INDEX idx_items_deleted ON items (deleted, deleted_at);
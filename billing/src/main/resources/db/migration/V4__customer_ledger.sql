@@ -0,0 +1,23 @@
+-- V4: per-customer running totals maintained by BillingServiceImpl; backfilled from existing bills.
+
+CREATE TABLE customer_ledgers (
+  customer_id          BIGINT  NOT NULL,
+  outstanding_balance  DOUBLE  NOT NULL,
+  lifetime_spend       DOUBLE  NOT NULL,
+  bill_count           INT     NOT NULL,
+  last_purchase_date   DATE,
+  PRIMARY KEY (customer_id),
+  CONSTRAINT fk_customer_ledgers_customer FOREIGN KEY (customer_id) REFERENCES customers (customer_id)
+) ENGINE=InnoDB;
+
+-- top-debtors endpoint
+CREATE INDEX idx_customer_ledgers_outstanding ON customer_ledgers (outstanding_balance);
+
+INSERT INTO customer_ledgers (customer_id, outstanding_balance, lifetime_spend, bill_count, last_purchase_date)
+SELECT c.customer_id,
+       COALESCE(SUM(CASE WHEN b.payment_status = 'PENDING' THEN b.total_amount END), 0),
+       COALESCE(SUM(CASE WHEN b.payment_status <> 'CANCELLED' THEN b.total_amount END), 0),
+       COUNT(CASE WHEN b.payment_status <> 'CANCELLED' THEN 1 END),
+       MAX(CASE WHEN b.payment_status <> 'CANCELLED' THEN b.bill_date END)
+  FROM customers c LEFT JOIN bills b ON b.customer_id = c.customer_id
+ GROUP BY c.customer_id;
@@ -0,0 +1,13 @@
+-- V5: rule-based tax. With no rows every line is taxed at app.billing.tax-percent, as before.
+-- Example: textbooks exempt, schools exempt from 2026-01-01:
+--   INSERT INTO tax_rules (category, customer_status, rate_percent, effective_from) VALUES
+--     ('Textbooks', NULL, 0, '2000-01-01'), (NULL, 'SCHOOL', 0, '2026-01-01');
+
+CREATE TABLE tax_rules (
+  rule_id          BIGINT      NOT NULL AUTO_INCREMENT,
+  category         VARCHAR(60),
+  customer_status  VARCHAR(60),
+  rate_percent     DOUBLE      NOT NULL,
+  effective_from   DATE        NOT NULL,
+  PRIMARY KEY (rule_id)
+) ENGINE=InnoDB;
@@ -0,0 +1,218 @@
+package com.pahana.edu.billing.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class AuditLogTest {
+  @TempDir Path dir;
+
+  private AuditLog start(int ringSize, int batchSize, long maxFileBytes, AuditProperties.Fsync fsync) throws IOException {
+    var audit = new AuditLog(new AuditProperties(true, dir.toString(), ringSize, batchSize, maxFileBytes, fsync, 1000));
+    audit.start();
+    return audit;
+  }
+
+  private List<AuditRecord> readAll() throws IOException {
+    return new AuditLogReader(dir).find(new AuditLogReader.Query(null, null, null, null, null, Integer.MAX_VALUE));
+  }
+
+  private List<Path> files() throws IOException {
+    try(Stream<Path> s = Files.list(dir)){ return s.sorted().toList(); }
+  }
+
+  @Test
+  void recordsRoundTripThroughTheReaderAcrossRotatedFiles() throws Exception {
+    var audit = start(64, 4, AuditFileFormat.RECORD_SIZE * 10L, AuditProperties.Fsync.BATCH);
+    var types = AuditEventType.values();
+    int n = 50;
+    for(int i = 0; i < n; i++)
+      audit.record(types[i % types.length], "cashier" + i, 1000 + i, i * 1.5, -i);
+    audit.record(AuditEventType.LOGIN_FAILURE, null, 0, 0, 0);
+    audit.record(AuditEventType.LOGIN_SUCCESS, "x".repeat(40), 7, 0, 0);
+    audit.stop();
+
+    assertTrue(files().size() > 1, "expected size-based rotation");
+    var records = readAll();
+    assertEquals(n + 2, records.size());
+    for(int i = 0; i < n; i++){
+      var r = records.get(i);
+      assertEquals(i, r.sequence());
+      assertEquals(types[i % types.length], r.type());
+      assertEquals("cashier" + i, r.actor());
+      assertEquals(1000 + i, r.entityId());
+      assertEquals(i * 1.5, r.value());
+      assertEquals(-i, r.previous());
+    }
+    assertEquals("", records.get(n).actor());
+    assertEquals("x".repeat(AuditFileFormat.ACTOR_BYTES), records.get(n + 1).actor());   // truncated, not rejected
+  }
+
+  @Test
+  void readerSkipsTornTailAndContinuesWithNextFile() throws Exception {
+    var audit = start(64, 5, AuditFileFormat.RECORD_SIZE * 5L, AuditProperties.Fsync.BATCH);
+    for(int i = 0; i < 20; i++) audit.record(AuditEventType.BILL_CREATED, "c", i, i, 0);
+    audit.stop();
+
+    var files = files();
+    assertTrue(files.size() >= 2);
+    long firstCount = Files.size(files.get(0)) / AuditFileFormat.RECORD_SIZE;
+    try(var ch = FileChannel.open(files.get(0), StandardOpenOption.WRITE)){
+      ch.truncate(Files.size(files.get(0)) - 30);                    // crash mid-record
+    }
+    Files.write(files.get(files.size() - 1), new byte[17], StandardOpenOption.APPEND);
+
+    var records = readAll();
+    assertEquals(19, records.size());
+    assertTrue(records.stream().noneMatch(r -> r.sequence() == firstCount - 1));
+    assertEquals(19, records.get(records.size() - 1).sequence());
+  }
+
+  private void writeFile(long openedMs, long firstSeq, long... epochMs) throws IOException {
+    var buf = ByteBuffer.allocate(epochMs.length * AuditFileFormat.RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    for(int i = 0; i < epochMs.length; i++)
+      AuditFileFormat.write(buf, firstSeq + i, epochMs[i], AuditEventType.BILL_CREATED, "c", firstSeq + i, 0, 0);
+    Files.write(dir.resolve(AuditFileFormat.fileName(openedMs, firstSeq)), buf.array());
+  }
+
+  @Test
+  void fromSkipsFilesWhoseSuccessorOpenedEarlier() throws Exception {
+    writeFile(1_000, 0, 1_000, 1_500, 9_000);       // last entry breaks the file invariant on purpose
+    writeFile(2_000, 3, 2_000, 2_500);
+    writeFile(3_000, 5, 3_000, 3_500);
+
+    var q = new AuditLogReader.Query(null, null, null, Instant.ofEpochMilli(2_600), null, 100);
+    var seqs = new AuditLogReader(dir).find(q).stream().map(AuditRecord::sequence).toList();
+    assertEquals(List.of(5L, 6L), seqs);              // the first file was not opened at all
+
+    q = new AuditLogReader.Query(null, null, null, Instant.ofEpochMilli(2_000), null, 100);
+    seqs = new AuditLogReader(dir).find(q).stream().map(AuditRecord::sequence).toList();
+    assertEquals(List.of(2L, 3L, 4L, 5L, 6L), seqs);  // successor opened exactly at from: still read
+  }
+
+  @Test
+  void nonPositiveLimitReturnsNothing() throws Exception {
+    writeFile(1_000, 0, 1_000, 1_500);
+    var reader = new AuditLogReader(dir);
+    assertTrue(reader.find(new AuditLogReader.Query(null, null, null, null, null, 0)).isEmpty());
+    assertTrue(reader.find(new AuditLogReader.Query(null, null, null, null, null, -5)).isEmpty());
+    assertEquals(1, reader.find(new AuditLogReader.Query(null, null, null, null, null, 1)).size());
+  }
+
+  @Test
+  void concurrentProducersLoseAndDuplicateNothing() throws Exception {
+    int threads = 8, perThread = 20_000;
+    var audit = start(64, 16, Long.MAX_VALUE, AuditProperties.Fsync.NONE);   // small ring: producers hit back-pressure
+    var go = new CountDownLatch(1);
+    var workers = new ArrayList<Thread>();
+    for(int t = 0; t < threads; t++){
+      long base = t * 1_000_000L;
+      var w = new Thread(() -> {
+        try { go.await(); } catch(InterruptedException e){ return; }
+        for(int i = 0; i < perThread; i++) audit.record(AuditEventType.ITEM_PRICE_CHANGED, "p", base + i, i, 0);
+      });
+      w.start();
+      workers.add(w);
+    }
+    go.countDown();
+    for(var w : workers) w.join();
+    audit.stop();
+
+    var records = readAll();
+    assertEquals(threads * perThread, records.size());
+    long[] nextPerThread = new long[threads];
+    for(int i = 0; i < records.size(); i++){
+      var r = records.get(i);
+      assertEquals(i, r.sequence());
+      int t = (int) (r.entityId() / 1_000_000L);
+      assertEquals(nextPerThread[t]++, r.entityId() % 1_000_000L, "thread " + t + " out of order or duplicated");
+    }
+    for(long c : nextPerThread) assertEquals(perThread, c);
+  }
+
+  @Test
+  void stopWithProducersBlockedOnAFullRingReturnsPromptly() throws Exception {
+    var audit = start(2, 1, Long.MAX_VALUE, AuditProperties.Fsync.BATCH);
+    var stopProducing = new AtomicBoolean();
+    var workers = new ArrayList<Thread>();
+    for(int t = 0; t < 8; t++){
+      var w = new Thread(() -> { while(!stopProducing.get()) audit.record(AuditEventType.BILL_PAID, "p", 1, 1, 0); });
+      w.start();
+      workers.add(w);
+    }
+    Thread.sleep(100);
+
+    long t0 = System.nanoTime();
+    audit.stop();
+    long stopMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
+    stopProducing.set(true);
+    for(var w : workers){
+      w.join(2_000);
+      assertFalse(w.isAlive(), "producer still blocked after stop");
+    }
+    assertTrue(stopMs < 1_000, "stop took " + stopMs + " ms");
+
+    var records = readAll();
+    for(int i = 0; i < records.size(); i++) assertEquals(i, records.get(i).sequence());
+  }
+
+  /**
+   * Logs the caller-side cost of record() per fsync mode, with free ring space and with the ring
+   * saturated (then bound by the writer); run with {@code mvn -Pbenchmark test}.
+   */
+  @Test @Tag("benchmark")
+  void nanosPerRecord() throws Exception {
+    for(var fsync : AuditProperties.Fsync.values()){
+      for(int producers : new int[]{ 1, 4 }){
+        var sub = Files.createDirectory(dir.resolve(fsync + "-" + producers));
+        var audit = new AuditLog(new AuditProperties(true, sub.toString(), 8192, 256, 64L << 20, fsync, 1000));
+        audit.start();
+        int n = 200_000;
+        Runnable burst = () -> { for(int i = 0; i < n; i++) audit.record(AuditEventType.BILL_CREATED, "bench", i, i, 0); };
+        burst.run();                                                   // warm-up
+
+        if(producers == 1){                                            // ring never full: pure caller cost
+          long spent = 0;
+          for(int round = 0; round < 50; round++){
+            Thread.sleep(5);
+            long t0 = System.nanoTime();
+            for(int i = 0; i < 4096; i++) audit.record(AuditEventType.BILL_CREATED, "bench", i, i, 0);
+            spent += System.nanoTime() - t0;
+          }
+          log.info("AuditLog.record fsync={} uncontended: {} ns/record", fsync, String.format("%.1f", spent / (50.0 * 4096)));
+        }
+
+        var go = new CountDownLatch(1);
+        var workers = new ArrayList<Thread>();
+        for(int p = 0; p < producers; p++){
+          var w = new Thread(() -> { try { go.await(); } catch(InterruptedException e){ return; } burst.run(); });
+          w.start();
+          workers.add(w);
+        }
+        long t0 = System.nanoTime();
+        go.countDown();
+        for(var w : workers) w.join();
+        long elapsed = System.nanoTime() - t0;
+        audit.stop();
+        log.info("AuditLog.record fsync={} producers={} saturated: {} ns/record per producer",
+            fsync, producers, String.format("%.1f", elapsed / (double) n));
+      }
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package com.pahana.edu.billing.config;
+
+import com.pahana.edu.billing.domain.enums.UserType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlFilterTest {
+  private static final AdmissionProperties.Bucket ROOMY = new AdmissionProperties.Bucket(1_000, 1_000);
+  private static final AdmissionProperties.HeavyEndpoint CUSTOMERS =
+      new AdmissionProperties.HeavyEndpoint("customers-list", "GET", "/api/customers", 1);
+
+  private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+
+  @AfterEach
+  void clearContext(){ SecurityContextHolder.clearContext(); }
+
+  private AdmissionControlFilter filter(AdmissionProperties.Bucket user, Map<UserType, AdmissionProperties.Bucket> roles,
+                                        List<AdmissionProperties.HeavyEndpoint> heavy){
+    return new AdmissionControlFilter(new AdmissionProperties(true, user, roles, heavy, 3), meters);
+  }
+
+  private static void login(String user, UserType role){
+    SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+        user, null, List.of(new SimpleGrantedAuthority("ROLE_" + role))));
+  }
+
+  private static MockHttpServletResponse call(AdmissionControlFilter f, String method, String uri, FilterChain chain)
+      throws Exception {
+    var res = new MockHttpServletResponse();
+    f.doFilter(new MockHttpServletRequest(method, uri), res, chain);
+    return res;
+  }
+
+  private double count(String outcome, String reason){
+    var c = meters.find("admission.requests").tag("outcome", outcome).tag("reason", reason).counter();
+    return c != null ? c.count() : 0;
+  }
+
+  private double inflight(String endpoint){
+    return meters.get("admission.inflight").tag("endpoint", endpoint).gauge().value();
+  }
+
+  @Test
+  void userBucketExhaustionReturns429WithRetryAfter() throws Exception {
+    var f = filter(new AdmissionProperties.Bucket(2, 0.5), Map.of(), List.of());
+    var calls = new AtomicInteger();
+    FilterChain chain = (rq, rs) -> calls.incrementAndGet();
+    login("alice", UserType.CASHIER);
+
+    assertEquals(200, call(f, "GET", "/api/items", chain).getStatus());
+    assertEquals(200, call(f, "GET", "/api/items", chain).getStatus());
+    var res = call(f, "GET", "/api/items", chain);
+
+    assertEquals(429, res.getStatus());
+    assertEquals("2", res.getHeader("Retry-After"));          // 0.5 tokens/s: next one in 2 s
+    assertTrue(res.getContentAsString().contains("user limit"));
+    assertEquals(2, calls.get());
+    assertEquals(2, count("admitted", "none"));
+    assertEquals(1, count("rejected", "user"));
+
+    login("bob", UserType.CASHIER);                             // buckets are per user
+    assertEquals(200, call(f, "GET", "/api/items", chain).getStatus());
+  }
+
+  @Test
+  void roleBucketIsSharedByEveryoneInTheRole() throws Exception {
+    var f = filter(ROOMY, Map.of(UserType.CASHIER, new AdmissionProperties.Bucket(2, 1)), List.of());
+    FilterChain chain = (rq, rs) -> {};
+
+    login("alice", UserType.CASHIER);
+    assertEquals(200, call(f, "GET", "/api/items", chain).getStatus());
+    login("bob", UserType.CASHIER);
+    assertEquals(200, call(f, "GET", "/api/items", chain).getStatus());
+    login("carol", UserType.CASHIER);
+    var res = call(f, "GET", "/api/items", chain);
+    assertEquals(429, res.getStatus());
+    assertEquals("1", res.getHeader("Retry-After"));
+    assertEquals(1, count("rejected", "role"));
+
+    login("dave", UserType.ADMIN);                              // other roles have their own (here: none)
+    assertEquals(200, call(f, "GET", "/api/items", chain).getStatus());
+  }
+
+  @Test
+  void fullHeavyEndpointReturns503() throws Exception {
+    var f = filter(ROOMY, Map.of(), List.of(CUSTOMERS));
+    login("alice", UserType.ADMIN);
+    var nested = new MockHttpServletResponse[1];
+    var other = new MockHttpServletResponse[1];
+    // while the first customers request is in the chain, a second one finds the only permit taken
+    FilterChain chain = (rq, rs) -> {
+      try {
+        nested[0] = call(f, "GET", "/api/customers", (a, b) -> fail("second request must not be admitted"));
+        other[0] = call(f, "POST", "/api/customers", (a, b) -> {});   // different method: not capped
+      } catch(Exception e){ throw new ServletException(e); }
+    };
+
+    assertEquals(200, call(f, "GET", "/api/customers", chain).getStatus());
+    assertEquals(503, nested[0].getStatus());
+    assertEquals("3", nested[0].getHeader("Retry-After"));
+    assertEquals(200, other[0].getStatus());
+    assertEquals(1, count("rejected", "concurrency"));
+    assertEquals(0, inflight("customers-list"));
+  }
+
+  @Test
+  void permitIsReleasedWhenTheChainThrows() throws Exception {
+    var f = filter(ROOMY, Map.of(), List.of(CUSTOMERS));
+    login("alice", UserType.ADMIN);
+
+    assertThrows(ServletException.class,
+        () -> call(f, "GET", "/api/customers", (rq, rs) -> { throw new ServletException("boom"); }));
+    assertThrows(IllegalStateException.class,
+        () -> call(f, "GET", "/api/customers", (rq, rs) -> { throw new IllegalStateException("boom"); }));
+
+    assertEquals(0, inflight("customers-list"));
+    assertEquals(200, call(f, "GET", "/api/customers", (rq, rs) -> {}).getStatus());
+  }
+
+  @Test
+  void unauthenticatedAndNonApiRequestsSkipTheBuckets() throws Exception {
+    var f = filter(new AdmissionProperties.Bucket(1, 0.001), Map.of(), List.of());
+    var calls = new AtomicInteger();
+    FilterChain chain = (rq, rs) -> calls.incrementAndGet();
+
+    for(int i = 0; i < 5; i++) assertEquals(200, call(f, "POST", "/api/auth/login", chain).getStatus());
+    login("alice", UserType.CASHIER);
+    for(int i = 0; i < 5; i++) assertEquals(200, call(f, "GET", "/actuator/health", chain).getStatus());
+    assertEquals(10, calls.get());
+    assertEquals(0, count("rejected", "user"));
+  }
+
+  /** Hammering a capped list endpoint never exceeds its cap and never sheds uncapped writes. */
+  @Test
+  void cappedEndpointUnderLoadLeavesOtherEndpointsAlone() throws Exception {
+    var f = filter(ROOMY, Map.of(), List.of(new AdmissionProperties.HeavyEndpoint("customers-list", "GET", "/api/customers", 2)));
+    var inChain = new AtomicInteger();
+    var maxInChain = new AtomicInteger();
+    FilterChain slowList = (rq, rs) -> {
+      maxInChain.accumulateAndGet(inChain.incrementAndGet(), Math::max);
+      try { Thread.sleep(5); } catch(InterruptedException e){ Thread.currentThread().interrupt(); }
+      inChain.decrementAndGet();
+    };
+    var listStatuses = new int[600];
+    var billStatuses = new int[200];
+    var go = new CountDownLatch(1);
+    var workers = new ArrayList<Thread>();
+    for(int t = 0; t < 12; t++){
+      int slot = t;
+      workers.add(new Thread(() -> {
+        try {
+          go.await();
+          login("cashier" + slot, UserType.CASHIER);
+          for(int i = slot; i < listStatuses.length; i += 12)
+            listStatuses[i] = call(f, "GET", "/api/customers", slowList).getStatus();
+        } catch(Exception e){ throw new IllegalStateException(e); }
+      }));
+    }
+    workers.add(new Thread(() -> {
+      try {
+        go.await();
+        login("admin", UserType.ADMIN);
+        for(int i = 0; i < billStatuses.length; i++) billStatuses[i] = call(f, "POST", "/api/bills", (rq, rs) -> {}).getStatus();
+      } catch(Exception e){ throw new IllegalStateException(e); }
+    }));
+    workers.forEach(Thread::start);
+    go.countDown();
+    for(var w : workers) w.join();
+
+    assertTrue(maxInChain.get() <= 2, "in flight: " + maxInChain.get());
+    for(int s : billStatuses) assertEquals(200, s);
+    for(int s : listStatuses) assertTrue(s == 200 || s == 503, "status " + s);
+    assertTrue(count("rejected", "concurrency") > 0);
+    assertEquals(0, inflight("customers-list"));
+  }
+}
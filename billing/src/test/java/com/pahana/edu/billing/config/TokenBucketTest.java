@@ -0,0 +1,42 @@
+package com.pahana.edu.billing.config;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+  @Test
+  void allowsBurstUpToCapacityThenRejects(){
+    var b = new TokenBucket(5, 0.001);
+    for(int i = 0; i < 5; i++) assertEquals(0L, b.tryAcquire());
+    assertTrue(b.tryAcquire() > 0);
+  }
+
+  @Test
+  void reportsWaitUntilNextToken(){
+    var b = new TokenBucket(1, 1.0);
+    assertEquals(0L, b.tryAcquire());
+    long wait = b.tryAcquire();
+    assertTrue(wait > TimeUnit.MILLISECONDS.toNanos(900) && wait <= TimeUnit.SECONDS.toNanos(1), "wait=" + wait);
+  }
+
+  @Test
+  void refillsOverTime() throws InterruptedException {
+    var b = new TokenBucket(1, 100.0);   // one token every 10 ms
+    assertEquals(0L, b.tryAcquire());
+    assertTrue(b.tryAcquire() > 0);
+    Thread.sleep(30);
+    assertEquals(0L, b.tryAcquire());
+  }
+
+  @Test
+  void refillNeverExceedsCapacity() throws InterruptedException {
+    var b = new TokenBucket(2, 100.0);
+    Thread.sleep(200);                   // would be 20 tokens without the cap
+    assertEquals(0L, b.tryAcquire());
+    assertEquals(0L, b.tryAcquire());
+    assertTrue(b.tryAcquire() > 0);
+  }
+}
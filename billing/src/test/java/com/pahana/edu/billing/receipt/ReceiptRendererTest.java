@@ -0,0 +1,104 @@
+package com.pahana.edu.billing.receipt;
+
+import com.pahana.edu.billing.domain.dto.bill.BillItemResponse;
+import com.pahana.edu.billing.domain.dto.bill.BillResponse;
+import com.pahana.edu.billing.domain.enums.PaymentStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class ReceiptRendererTest {
+  private ReceiptRenderer renderer;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    renderer = new ReceiptRenderer(2000, 2);
+    renderer.compileTemplates();
+  }
+
+  @AfterEach
+  void tearDown(){ renderer.shutdown(); }
+
+  private static BillResponse bill(long id, PaymentStatus status, int lines){
+    var items = new ArrayList<BillItemResponse>(lines);
+    for(int i = 0; i < lines; i++)
+      items.add(new BillItemResponse(id * 100 + i, (long) i, "Item " + i, 1 + i % 3, 10.0 + i, (1 + i % 3) * (10.0 + i)));
+    double net = items.stream().mapToDouble(BillItemResponse::subtotal).sum();
+    return new BillResponse(id, "B-" + id, 7L, "Royal College", LocalDate.of(2026, 10, 18),
+        net * 0.08, net * 1.08, status, items);
+  }
+
+  private static List<BillResponse> day(int count){
+    var bills = new ArrayList<BillResponse>(count);
+    for(int i = 1; i <= count; i++) bills.add(bill(i, i % 5 == 0 ? PaymentStatus.PENDING : PaymentStatus.PAID, 3 + i % 8));
+    return bills;
+  }
+
+  @Test
+  void batchKeepsBillOrder(){
+    var bills = day(200);
+    var rendered = renderer.renderBatch(bills, ReceiptFormat.TEXT);
+    assertEquals(bills.size(), rendered.size());
+    for(int i = 0; i < bills.size(); i++){
+      String body = new String(rendered.get(i).body(), StandardCharsets.UTF_8);
+      assertTrue(body.contains(bills.get(i).billNumber()), "receipt " + i + " is for another bill");
+    }
+  }
+
+  @Test
+  void batchReadsTheCacheButDoesNotFillIt(){
+    var cachedBill = bill(1, PaymentStatus.PAID, 3);
+    var hit = renderer.renderBytes(cachedBill, ReceiptFormat.TEXT);
+    assertSame(hit, renderer.cached(1L, ReceiptFormat.TEXT));
+
+    var rendered = renderer.renderBatch(List.of(cachedBill, bill(2, PaymentStatus.PAID, 3)), ReceiptFormat.TEXT);
+    assertSame(hit, rendered.get(0));
+    assertNull(renderer.cached(2L, ReceiptFormat.TEXT));
+  }
+
+  @Test
+  void singleReceiptsFillTheCacheOnlyForImmutableBills(){
+    renderer.renderBytes(bill(1, PaymentStatus.PENDING, 3), ReceiptFormat.HTML);
+    renderer.renderBytes(bill(2, PaymentStatus.CANCELLED, 3), ReceiptFormat.HTML);
+    assertNull(renderer.cached(1L, ReceiptFormat.HTML));
+    assertNotNull(renderer.cached(2L, ReceiptFormat.HTML));
+    assertNull(renderer.cached(2L, ReceiptFormat.TEXT));
+  }
+
+  /** Logs receipts per second, one thread vs. the batch pool; run with {@code mvn -Pbenchmark test}. */
+  @Test @Tag("benchmark")
+  void receiptsPerSecond(){
+    var bills = day(5_000);
+    for(var format : ReceiptFormat.values()){
+      for(int warm = 0; warm < 3; warm++){
+        for(var b : bills) renderer.renderBytes(b, format);
+        renderer.renderBatch(bills, format);
+      }
+      var fresh = new ReceiptRenderer(0, 2);       // cache disabled: measure rendering, not lookups
+      try {
+        fresh.compileTemplates();
+        long t0 = System.nanoTime();
+        long bytes = 0;
+        for(var b : bills) bytes += fresh.renderBytes(b, format).body().length;
+        long t1 = System.nanoTime();
+        for(var r : fresh.renderBatch(bills, format)) bytes += r.body().length;
+        long t2 = System.nanoTime();
+        log.info("{} receipts: {}/s on one thread, {}/s on the batch pool (2 threads, {} bytes)", format,
+            Math.round(bills.size() / ((t1 - t0) / 1e9)), Math.round(bills.size() / ((t2 - t1) / 1e9)), bytes);
+      } catch(Exception e){
+        throw new IllegalStateException(e);
+      } finally {
+        fresh.shutdown();
+      }
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.pahana.edu.billing.receipt;
+
+import com.pahana.edu.billing.domain.dto.bill.BillItemResponse;
+import com.pahana.edu.billing.domain.dto.bill.BillResponse;
+import com.pahana.edu.billing.domain.enums.PaymentStatus;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReceiptTemplateTest {
+  private static final BillResponse BILL = new BillResponse(1L, "B-001", 7L, "Royal <College> & Co",
+      LocalDate.of(2026, 10, 18), 16.0, 216.0, PaymentStatus.PAID, List.of(
+        new BillItemResponse(11L, 1L, "A4 Exercise Book", 2, 50.0, 100.0),
+        new BillItemResponse(12L, 2L, "HB Pencil", 4, 25.0, 100.0)));
+
+  private static String render(String template, boolean html) throws IOException {
+    var out = new StringWriter();
+    ReceiptTemplate.compile(template, html).render(BILL, out);
+    return out.toString();
+  }
+
+  @Test
+  void substitutesBillFieldsAndFormatsDoubles() throws IOException {
+    assertEquals("B-001 2026-10-18 PAID 216.00 net=200.00",
+        render("{{billNumber}} {{billDate}} {{paymentStatus}} {{totalAmount}} net={{netAmount}}", false));
+  }
+
+  @Test
+  void rightAlignsPositiveWidthsAndNeverTruncatesThem() throws IOException {
+    assertEquals("[  216.00]", render("[{{totalAmount:8}}]", false));
+    assertEquals("[216.00]", render("[{{totalAmount:3}}]", false));
+  }
+
+  @Test
+  void leftAlignsAndTruncatesNegativeWidths() throws IOException {
+    assertEquals("[B-001   ]", render("[{{billNumber:-8}}]", false));
+    assertEquals("[Roya]", render("[{{customerName:-4}}]", false));
+  }
+
+  @Test
+  void repeatsItemsSectionWithLineAndBillFields() throws IOException {
+    assertEquals("A4 Exercise Book x2 (B-001);HB Pencil x4 (B-001);",
+        render("{{#items}}{{itemName}} x{{quantity}} ({{billNumber}});{{/items}}", false));
+  }
+
+  @Test
+  void escapesOnlyForHtml() throws IOException {
+    assertEquals("Royal <College> & Co", render("{{customerName}}", false));
+    assertEquals("Royal &lt;College&gt; &amp; Co", render("{{customerName}}", true));
+    assertEquals("<b>literal</b>", render("<b>literal</b>", true));
+  }
+
+  @Test
+  void rejectsBadTemplatesAtCompileTime(){
+    assertThrows(IllegalStateException.class, () -> ReceiptTemplate.compile("{{nope}}", false));
+    assertThrows(IllegalStateException.class, () -> ReceiptTemplate.compile("{{quantity}}", false)); // line field outside items
+    assertThrows(IllegalStateException.class, () -> ReceiptTemplate.compile("{{#items}}{{itemName}}", false));
+    assertThrows(IllegalStateException.class, () -> ReceiptTemplate.compile("{{/items}}", false));
+    assertThrows(IllegalStateException.class, () -> ReceiptTemplate.compile("{{#lines}}{{/lines}}", false));
+    assertThrows(IllegalStateException.class, () -> ReceiptTemplate.compile("{{billNumber", false));
+  }
+
+  @Test
+  void shippedTemplatesCompile() throws IOException {
+    for(var f : ReceiptFormat.values()){
+      try(var in = getClass().getClassLoader().getResourceAsStream(f.templatePath)){
+        assertNotNull(in, f.templatePath);
+        var out = new StringWriter();
+        ReceiptTemplate.compile(new String(in.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8), f.html).render(BILL, out);
+        assertTrue(out.toString().contains("B-001"));
+      }
+    }
+  }
+}
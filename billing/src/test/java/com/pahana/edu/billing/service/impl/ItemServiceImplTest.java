@@ -0,0 +1,84 @@
+package com.pahana.edu.billing.service.impl;
+
+import com.pahana.edu.billing.audit.AuditLog;
+import com.pahana.edu.billing.domain.dto.item.ItemBulkRowResult;
+import com.pahana.edu.billing.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/** CSV parsing only: no item exists, so every parsed row comes back as "Item not found". */
+class ItemServiceImplTest {
+  private ItemServiceImpl service;
+
+  @BeforeEach
+  void setUp(){
+    var repo = mock(ItemRepository.class);
+    when(repo.findPriceStock(any())).thenReturn(List.of());
+    service = new ItemServiceImpl(repo, mock(AuditLog.class), mock(JdbcTemplate.class), mock(TransactionTemplate.class));
+    ReflectionTestUtils.setField(service, "chunkSize", 500);
+  }
+
+  private List<ItemBulkRowResult> parse(String csv) throws Exception {
+    return service.bulkUpdateCsv(new StringReader(csv)).rows();
+  }
+
+  private static void assertParsed(ItemBulkRowResult r, int line, long itemId){
+    assertEquals(line, r.row());
+    assertEquals(itemId, r.itemId());
+    assertEquals("Item not found", r.error());
+  }
+
+  @Test
+  void headerIsSkipped() throws Exception {
+    var results = parse("itemId,stockIncrement,newPrice\n7,5,\n8,,12.5\n");
+    assertEquals(2, results.size());
+    assertParsed(results.get(0), 2, 7);
+    assertParsed(results.get(1), 3, 8);
+  }
+
+  @Test
+  void headerlessFileKeepsItsFirstRow() throws Exception {
+    var results = parse("7,5,\n8,,12.5\n");
+    assertEquals(2, results.size());
+    assertParsed(results.get(0), 1, 7);
+  }
+
+  @Test
+  void byteOrderMarkDoesNotHideTheFirstDataRow() throws Exception {
+    var results = parse("\uFEFF7,5,\n8,,12.5\n");
+    assertEquals(2, results.size());
+    assertParsed(results.get(0), 1, 7);
+
+    results = parse("\uFEFFitemId,stockIncrement,newPrice\n7,5,\n");
+    assertEquals(1, results.size());
+    assertParsed(results.get(0), 2, 7);
+  }
+
+  @Test
+  void headerAfterLeadingBlankLinesIsStillAHeader() throws Exception {
+    var results = parse("\n  \nItemID,stockIncrement,newPrice\n7,5,\n");
+    assertEquals(1, results.size());
+    assertParsed(results.get(0), 4, 7);
+  }
+
+  @Test
+  void everyOtherLineIsReported() throws Exception {
+    var results = parse("7,5,\nitemId,stockIncrement,newPrice\nabc,1,\n8,1\n");
+    assertEquals(4, results.size());
+    assertParsed(results.get(0), 1, 7);
+    for(int i = 1; i < 4; i++){
+      assertEquals(i + 1, results.get(i).row());
+      assertFalse(results.get(i).applied());
+      assertTrue(results.get(i).error().startsWith("Unparseable line"), results.get(i).error());
+    }
+  }
+}
@@ -0,0 +1,181 @@
+package com.pahana.edu.billing.tax;
+
+import com.pahana.edu.billing.domain.entity.TaxRule;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class TaxTableTest {
+  private static final double DEFAULT = 8.0;
+  private static final LocalDate JAN_2026 = LocalDate.of(2026, 1, 1);
+
+  private static TaxRule rule(long id, String category, String status, double rate, LocalDate from){
+    return TaxRule.builder().ruleId(id).category(category).customerStatus(status)
+        .ratePercent(rate).effectiveFrom(from).build();
+  }
+
+  /** Reference semantics: most specific matching scope, then latest effective date, then highest ruleId. */
+  private static double naive(List<TaxRule> rules, String status, String category, LocalDate date){
+    TaxRule best = null;
+    for(var r : rules){
+      if(r.getEffectiveFrom().isAfter(date)) continue;
+      if(r.getCustomerStatus() != null && !r.getCustomerStatus().equals(status)) continue;
+      if(r.getCategory() != null && !r.getCategory().equals(category)) continue;
+      if(best == null || compare(r, best) > 0) best = r;
+    }
+    return best != null ? best.getRatePercent() : DEFAULT;
+  }
+
+  private static int compare(TaxRule a, TaxRule b){
+    int c = Integer.compare(specificity(a), specificity(b));
+    if(c == 0) c = a.getEffectiveFrom().compareTo(b.getEffectiveFrom());
+    if(c == 0) c = Long.compare(a.getRuleId(), b.getRuleId());
+    return c;
+  }
+
+  private static int specificity(TaxRule r){
+    return (r.getCustomerStatus() != null ? 2 : 0) + (r.getCategory() != null ? 1 : 0);
+  }
+
+  @Test
+  void noRulesFallsBackToDefault(){
+    var t = TaxTable.compile(List.of(), DEFAULT);
+    assertEquals(DEFAULT, t.ratePercent(null, null, JAN_2026));
+    assertEquals(DEFAULT, t.ratePercent("SCHOOL", "Stationery", JAN_2026));
+  }
+
+  @Test
+  void mostSpecificScopeWins(){
+    var from = LocalDate.of(2000, 1, 1);
+    var t = TaxTable.compile(List.of(
+        rule(1, null, null, 5, from),
+        rule(2, "Stationery", null, 10, from),
+        rule(3, null, "SCHOOL", 0, from),
+        rule(4, "Stationery", "SCHOOL", 2, from)), DEFAULT);
+    assertEquals(2, t.ratePercent("SCHOOL", "Stationery", JAN_2026));    // status + category
+    assertEquals(0, t.ratePercent("SCHOOL", "Textbooks", JAN_2026));     // status only
+    assertEquals(10, t.ratePercent("ACTIVE", "Stationery", JAN_2026));   // category only
+    assertEquals(5, t.ratePercent("ACTIVE", "Textbooks", JAN_2026));     // default rule
+    assertEquals(5, t.ratePercent(null, null, JAN_2026));
+  }
+
+  @Test
+  void specificScopeOnlyAppliesFromItsEffectiveDate(){
+    var t = TaxTable.compile(List.of(
+        rule(1, "Stationery", null, 10, LocalDate.of(2000, 1, 1)),
+        rule(2, null, "SCHOOL", 0, LocalDate.of(2026, 1, 1))), DEFAULT);
+    assertEquals(10, t.ratePercent("SCHOOL", "Stationery", LocalDate.of(2025, 12, 31)));
+    assertEquals(0, t.ratePercent("SCHOOL", "Stationery", LocalDate.of(2026, 1, 1)));
+  }
+
+  @Test
+  void effectiveDateBoundaries(){
+    var t = TaxTable.compile(List.of(
+        rule(1, "Stationery", null, 8, LocalDate.of(2000, 1, 1)),
+        rule(2, "Stationery", null, 10, LocalDate.of(2026, 7, 1))), DEFAULT);
+    assertEquals(DEFAULT, t.ratePercent(null, "Stationery", LocalDate.of(1999, 12, 31)));
+    assertEquals(8, t.ratePercent(null, "Stationery", LocalDate.of(2000, 1, 1)));
+    assertEquals(8, t.ratePercent(null, "Stationery", LocalDate.of(2026, 6, 30)));
+    assertEquals(10, t.ratePercent(null, "Stationery", LocalDate.of(2026, 7, 1)));
+    assertEquals(10, t.ratePercent(null, "Stationery", LocalDate.of(2100, 1, 1)));
+  }
+
+  @Test
+  void sameScopeAndDateTieGoesToHigherRuleId(){
+    var from = LocalDate.of(2026, 1, 1);
+    var rules = new ArrayList<>(List.of(rule(7, "Stationery", null, 12, from), rule(3, "Stationery", null, 9, from)));
+    assertEquals(12, TaxTable.compile(rules, DEFAULT).ratePercent(null, "Stationery", from));
+    Collections.reverse(rules);
+    assertEquals(12, TaxTable.compile(rules, DEFAULT).ratePercent(null, "Stationery", from));
+  }
+
+  @Test
+  void datesBeforeEveryRuleHitTheLeadingMinValueEntry(){
+    var t = TaxTable.compile(List.of(
+        rule(1, "Stationery", "SCHOOL", 1, LocalDate.of(2000, 1, 1)),
+        rule(2, null, null, 3, LocalDate.of(2010, 1, 1))), DEFAULT);
+    var ancient = LocalDate.of(1, 1, 1);
+    assertEquals(DEFAULT, t.ratePercent("SCHOOL", "Stationery", ancient));
+    assertEquals(DEFAULT, t.ratePercent("SCHOOL", null, ancient));
+    assertEquals(DEFAULT, t.ratePercent(null, "Stationery", ancient));
+    assertEquals(DEFAULT, t.ratePercent(null, null, ancient));
+  }
+
+  @Test
+  void unknownKeysUseWildcards(){
+    var t = TaxTable.compile(List.of(rule(1, "Stationery", "SCHOOL", 0, LocalDate.of(2000, 1, 1))), DEFAULT);
+    assertEquals(DEFAULT, t.ratePercent("RETAIL", "Toys", JAN_2026));
+    assertEquals(DEFAULT, t.ratePercent("school", "Stationery", JAN_2026));   // keys are case-sensitive
+  }
+
+  @Test
+  void matchesNaiveMatcherOnRandomRules(){
+    var rnd = new Random(42);
+    for(int round = 0; round < 50; round++){
+      var rules = randomRules(rnd, 1 + rnd.nextInt(40));
+      var table = TaxTable.compile(rules, DEFAULT);
+      for(int q = 0; q < 500; q++){
+        String status = pick(rnd, STATUSES), category = pick(rnd, CATEGORIES);
+        var date = randomDate(rnd);
+        assertEquals(naive(rules, status, category, date), table.ratePercent(status, category, date),
+            () -> "status=" + status + " category=" + category + " date=" + date);
+      }
+    }
+  }
+
+  /** Logs ns per lookup for the compiled table vs. linear rule matching; run with {@code mvn -Pbenchmark test}. */
+  @Test @Tag("benchmark")
+  void throughputAgainstNaiveMatching(){
+    var rnd = new Random(7);
+    var rules = randomRules(rnd, 200);
+    var table = TaxTable.compile(rules, DEFAULT);
+    int n = 200_000;
+    String[] statuses = new String[n], categories = new String[n];
+    LocalDate[] dates = new LocalDate[n];
+    for(int i = 0; i < n; i++){ statuses[i] = pick(rnd, STATUSES); categories[i] = pick(rnd, CATEGORIES); dates[i] = randomDate(rnd); }
+
+    double sink = 0;
+    for(int warm = 0; warm < 3; warm++){
+      for(int i = 0; i < n; i++) sink += table.ratePercent(statuses[i], categories[i], dates[i]);
+      for(int i = 0; i < n / 10; i++) sink += naive(rules, statuses[i], categories[i], dates[i]);
+    }
+    long t0 = System.nanoTime();
+    for(int i = 0; i < n; i++) sink += table.ratePercent(statuses[i], categories[i], dates[i]);
+    long t1 = System.nanoTime();
+    for(int i = 0; i < n; i++) sink += naive(rules, statuses[i], categories[i], dates[i]);
+    long t2 = System.nanoTime();
+    double tableNs = (t1 - t0) / (double) n, naiveNs = (t2 - t1) / (double) n;
+    log.info("TaxTable: {} ns/lookup, naive over {} rules: {} ns/lookup (sink {})",
+        String.format("%.1f", tableNs), rules.size(), String.format("%.1f", naiveNs), sink);
+    assertTrue(tableNs < naiveNs, () -> "compiled table slower than a linear scan: " + tableNs + " vs " + naiveNs);
+  }
+
+  private static final String[] STATUSES = { null, "SCHOOL", "ACTIVE", "RETAIL", "UNKNOWN" };
+  private static final String[] CATEGORIES = { null, "Stationery", "Textbooks", "Art", "Toys" };
+
+  private static List<TaxRule> randomRules(Random rnd, int count){
+    var rules = new ArrayList<TaxRule>(count);
+    for(int i = 0; i < count; i++){
+      String status = rnd.nextInt(3) == 0 ? pick(rnd, STATUSES) : null;
+      String category = rnd.nextBoolean() ? pick(rnd, CATEGORIES) : null;
+      if("UNKNOWN".equals(status)) status = null;
+      if("Toys".equals(category)) category = null;
+      rules.add(rule(rnd.nextInt(1000), category, status, rnd.nextInt(20), randomDate(rnd)));
+    }
+    // ruleIds are unique in the database
+    var ids = new HashSet<Long>();
+    rules.removeIf(r -> !ids.add(r.getRuleId()));
+    return rules;
+  }
+
+  private static LocalDate randomDate(Random rnd){
+    return LocalDate.of(2020, 1, 1).plusDays(rnd.nextInt(365 * 6));
+  }
+
+  private static String pick(Random rnd, String[] values){ return values[rnd.nextInt(values.length)]; }
+}